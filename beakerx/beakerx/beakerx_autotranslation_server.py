@@ -19,10 +19,16 @@ import os
 import random
 import string
 import socket
+import tempfile
 
 import base64
+import itertools
 
 beakerx = {}
+versions = {}
+version_sequence = itertools.count(1)
+
+FILE_CHUNK_SIZE = 1024 * 1024
 
 logging.getLogger('tornado.access').disabled = True
 
@@ -44,7 +50,7 @@ def basic_auth(f):
             auth_decoded = base64.b64decode(auth_header[6:])
             username, password = auth_decoded.decode('UTF-8').split(':', 2)
             if auth(username, password):
-                f(*args)
+                return f(*args)
             else:
                 _request_auth(handler)
         except:
@@ -60,22 +66,75 @@ class MainSaveHandler(tornado.web.RequestHandler):
         input_json = tornado.escape.json_decode(self.request.body)
         session_id = input_json["sessionId"]
         name = input_json["name"]
-        json = input_json["json"]
+        if "file" in input_json:
+            if not is_transport_file(input_json["file"]):
+                self.set_status(400)
+                return self.finish("file is outside of BEAKERX_AUTOTRANSLATION_DIR")
+            value = TransportFile(input_json["file"])
+        else:
+            value = input_json["json"]
         if session_id not in beakerx:
             beakerx[session_id] = {}
 
-        beakerx[session_id][name] = json
+        remove_transport_file(beakerx[session_id].get(name))
+        beakerx[session_id][name] = value
+        versions[(session_id, name)] = next(version_sequence)
         return self.finish("ok")
 
 
 class MainGetHandler(tornado.web.RequestHandler):
 
     @basic_auth
-    def get(self, session_id, name):
+    async def get(self, session_id, name):
         if session_id in beakerx and name in beakerx[session_id]:
-            return self.finish(beakerx[session_id][name])
+            version = '"{0}"'.format(versions[(session_id, name)])
+            self.set_header('ETag', version)
+            if self.request.headers.get('If-None-Match') == version:
+                self.set_status(304)
+                return self.finish()
+            value = beakerx[session_id][name]
+            if isinstance(value, TransportFile):
+                return await self.stream_file(value.path)
+            return self.finish(value)
         return self.finish("undefined")
 
+    @basic_auth
+    def delete(self, session_id, name):
+        if session_id in beakerx and name in beakerx[session_id]:
+            remove_transport_file(beakerx[session_id].pop(name))
+            versions.pop((session_id, name), None)
+            if not beakerx[session_id]:
+                del beakerx[session_id]
+        return self.finish("ok")
+
+    def compute_etag(self):
+        return None
+
+    async def stream_file(self, path):
+        with open(path, 'rb') as f:
+            while True:
+                chunk = f.read(FILE_CHUNK_SIZE)
+                if not chunk:
+                    break
+                self.write(chunk)
+                await self.flush()
+        self.finish()
+
+
+class TransportFile:
+    def __init__(self, path):
+        self.path = path
+
+
+def is_transport_file(path):
+    transport_dir = os.path.realpath(os.environ["BEAKERX_AUTOTRANSLATION_DIR"])
+    return os.path.dirname(os.path.realpath(path)) == transport_dir
+
+
+def remove_transport_file(value):
+    if isinstance(value, TransportFile) and os.path.exists(value.path):
+        os.remove(value.path)
+
 
 def make_app():
     return tornado.web.Application([
@@ -101,6 +160,7 @@ def random_string_generator(size=128):
 def init_env():
     os.environ["BEAKERX_AUTOTRANSLATION_PASSWORD"] = random_string_generator()
     os.environ["BEAKERX_AUTOTRANSLATION_PORT"] = str(get_free_tcp_port())
+    os.environ["BEAKERX_AUTOTRANSLATION_DIR"] = tempfile.mkdtemp(prefix='beakerx_autotranslation_')
 
 
 def start_autotranslation_server():
@@ -47,6 +47,24 @@ def _classpath_for(kernel):
         'beakerx', os.path.join('kernel', kernel, 'lib', '*'))
 
 
+def _cds_archive_for(kernel):
+    archive = pkg_resources.resource_filename(
+        'beakerx', os.path.join('kernel', kernel, 'kernel.jsa'))
+    return archive if os.path.exists(archive) and _java_supports_app_cds() else None
+
+
+def _java_supports_app_cds():
+    try:
+        version = subprocess.run(['java', '-version'], stderr=subprocess.PIPE).stderr.decode()
+    except OSError:
+        return False
+    quoted = version.split('"')
+    if len(quoted) < 2:
+        return False
+    major = quoted[1].split('.')[1] if quoted[1].startswith('1.') else quoted[1].split('.')[0]
+    return major.split('-')[0].isdigit() and int(major.split('-')[0]) >= 11
+
+
 def _uninstall_nbextension():
     subprocess.check_call(["jupyter", "nbextension", "disable", "beakerx", "--py", "--sys-prefix"])
     subprocess.check_call(["jupyter", "nbextension", "uninstall", "beakerx", "--py", "--sys-prefix"])
@@ -121,6 +139,11 @@ def _install_kernels():
         template = pkg_resources.resource_string(
             'beakerx', os.path.join('kernel', kernel, 'kernel.json'))
         contents = Template(template.decode()).substitute(PATH=classpath)
+        archive = _cds_archive_for(kernel)
+        if archive:
+            spec = json.loads(contents)
+            spec['argv'][1:1] = ['-XX:SharedArchiveFile=' + archive, '-Xshare:auto']
+            contents = json.dumps(spec, indent=2)
 
         with tempfile.TemporaryDirectory() as tmpdir:
             kernel_dir = os.path.join(tmpdir, kernel)
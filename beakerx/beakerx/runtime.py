@@ -21,6 +21,7 @@ import numpy
 import os
 import pandas
 import requests
+import tempfile
 import time
 import urllib.error
 import urllib.error
@@ -498,7 +499,7 @@ class BeakerX:
         if not unset:
             val = transform(val)
             args['value'] = json.dumps(val, cls=DataFrameEncoder)
-            state = {'state': args}
+        state = {'state': args}
         if self._comm is None:
             self.init_autotranslation_comm()
         self._comm.send(data=state)
@@ -525,6 +526,7 @@ class BeakerX:
         return self.set4(var, val, False, True)
 
     def unset(self, var):
+        autotranslation_delete(var)
         return self.set4(var, None, True, True)
 
     def isDefined(self, var):
@@ -690,6 +692,9 @@ class BeakerX:
         return self.unset(name)
 
 
+AUTOTRANSLATION_FILE_THRESHOLD = 1024 * 1024
+
+
 def autotranslation_update(var, val):
     session_id = get_context_session()
     port = os.environ["BEAKERX_AUTOTRANSLATION_PORT"]
@@ -697,7 +702,14 @@ def autotranslation_update(var, val):
     json_data = json.dumps(transform(val), cls=DataFrameEncoder)
     data = {}
     data["name"] = var
-    data["json"] = json_data
+    transport_dir = os.environ.get("BEAKERX_AUTOTRANSLATION_DIR")
+    if len(json_data) > AUTOTRANSLATION_FILE_THRESHOLD and transport_dir and os.path.isdir(transport_dir):
+        fd, path = tempfile.mkstemp(prefix='beakerx', suffix='.json', dir=transport_dir)
+        with os.fdopen(fd, 'w', encoding='utf-8') as f:
+            f.write(json_data)
+        data["file"] = path
+    else:
+        data["json"] = json_data
     data["sessionId"] = session_id
     requests.post(url, data=json.dumps(data), headers={'Authorization': get_auth_token()})
 
@@ -710,6 +722,13 @@ def autotranslation_get(var):
     return transformBack(result.content.decode())
 
 
+def autotranslation_delete(var):
+    port = os.environ["BEAKERX_AUTOTRANSLATION_PORT"]
+    session_id = get_context_session()
+    url = 'http://localhost:{0}/autotransltion/{1}/{2}'.format(port, session_id, var)
+    requests.delete(url, headers={'Authorization': get_auth_token()})
+
+
 def get_auth_token():
     token_string = 'beakerx:' + os.environ['BEAKERX_AUTOTRANSLATION_PASSWORD']
     return 'Basic ' + base64.b64encode(token_string.encode('utf-8')).decode()
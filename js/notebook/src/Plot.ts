@@ -59,6 +59,7 @@ export class PlotView extends widgets.DOMWidgetView {
 
       this.listenTo(this.model, 'change:updateData', this.handleUpdateData);
       this.listenTo(this.model, 'change:model', this.handleModelUpdate);
+      this.listenTo(this.model, 'msg:custom', this.handleCustomMessage);
       this.listenTo(this.model, 'beakerx-tabSelected', () => {
         this._currentScope.adjustModelWidth();
       });
@@ -150,6 +151,30 @@ export class PlotView extends widgets.DOMWidgetView {
     this.handleModelUpdate();
   }
 
+  handleCustomMessage(content) {
+    if (content.event !== 'appendPoints') {
+      return;
+    }
+
+    const currentModel = this.model.get('model');
+    const graphic = _.findWhere(currentModel.graphics_list, { uid: content.uid });
+
+    if (!graphic) {
+      return;
+    }
+
+    graphic.x = graphic.x.concat(content.x);
+    graphic.y = graphic.y.concat(content.y);
+
+    if (content.maxPoints) {
+      graphic.x = graphic.x.slice(-content.maxPoints);
+      graphic.y = graphic.y.slice(-content.maxPoints);
+    }
+
+    this.model.set('model', currentModel, {updated_view: this});
+    this.handleModelUpdate();
+  }
+
   initStandardPlot(model) {
     const wrapperId = `wrap_${this.model.model_id}`;
     this._currentScope = new PlotScope(wrapperId);
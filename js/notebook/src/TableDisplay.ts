@@ -54,6 +54,7 @@ export class TableDisplayView extends widgets.DOMWidgetView {
 
       this.listenTo(this.model, 'change:updateData', this.handleUpdateData);
       this.listenTo(this.model, 'change:model', this.handleModelUpdate);
+      this.listenTo(this.model, 'msg:custom', this.handleCustomMessage);
     });
   }
 
@@ -70,6 +71,27 @@ export class TableDisplayView extends widgets.DOMWidgetView {
     this.handleModelUpdate();
   }
 
+  handleCustomMessage(content: any): void {
+    if (content.event === 'cellProperties') {
+      this._currentScope && this._currentScope.dataGrid.lazyCellPropertiesManager.update(content);
+      return;
+    }
+
+    if (content.event !== 'appendRows') {
+      return;
+    }
+
+    const currentModel = this.model.get('model');
+    let values = currentModel.values.concat(content.values);
+
+    if (content.maxRows) {
+      values = values.slice(-content.maxRows);
+    }
+
+    this.model.set('model', { ...currentModel, values }, { updated_view: this });
+    this.handleModelUpdate();
+  }
+
   showWarning(data): void {
     const rowLimitMsg = data.rowLimitMsg;
     const modal = document.createElement('div');
@@ -764,7 +764,8 @@ define([
             "height": mraster.height,
             "opacity": mraster.opacity,
             "position": mraster.position,
-            "value": mraster.value
+            "value": mraster.value,
+            "mimeType": mraster.mimeType
           };
           item.elements.push(ele);
           newmodel.data.push(item);
@@ -24,9 +24,21 @@ define([
 
   var PlotRaster = function(data){
     _.extend(this, data); // copy properties to itself
+    this.value = toImageSource(this.value, this.mimeType);
+    _.each(this.elements, function(ele) {
+      ele.value = toImageSource(ele.value, ele.mimeType || data.mimeType);
+    });
     this.format();
   };
 
+  // image bytes sent as a binary message buffer arrive as a DataView
+  var toImageSource = function(value, mimeType) {
+    if (value instanceof DataView || value instanceof ArrayBuffer) {
+      return URL.createObjectURL(new Blob([value], { type: mimeType || 'image/png' }));
+    }
+    return value;
+  };
+
   PlotRaster.prototype.plotClass = "plot-raster";
 
   PlotRaster.prototype.format = function(){
@@ -31,6 +31,7 @@ import {DataGridHelpers} from "./dataGridHelpers";
 import EventManager from "./event/EventManager";
 import CellFocusManager from "./cell/CellFocusManager";
 import CellTooltipManager from "./cell/CellTooltipManager";
+import LazyCellPropertiesManager from "./cell/LazyCellPropertiesManager";
 import bkUtils from '../../shared/bkUtils';
 import {BeakerXDataStore} from "./store/BeakerXDataStore";
 import {
@@ -66,6 +67,7 @@ export class BeakerXDataGrid extends DataGrid {
   eventManager: EventManager;
   cellFocusManager: CellFocusManager;
   cellTooltipManager: CellTooltipManager;
+  lazyCellPropertiesManager: LazyCellPropertiesManager;
   dataGridResize: DataGridResize;
   canvasGC: GraphicsContext;
   focused: boolean;
@@ -102,6 +104,7 @@ export class BeakerXDataGrid extends DataGrid {
     this.eventManager = new EventManager(this);
     this.cellFocusManager = new CellFocusManager(this);
     this.cellTooltipManager = new CellTooltipManager(this);
+    this.lazyCellPropertiesManager = new LazyCellPropertiesManager(this);
     this.dataGridResize = new DataGridResize(this);
     this.model = new BeakerXDataGridModel(store, this.columnManager, this.rowManager);
     this.focused = false;
@@ -143,6 +146,7 @@ export class BeakerXDataGrid extends DataGrid {
 
   updateModelData(state: IDataModelState) {
     this.model.updateData(state);
+    this.lazyCellPropertiesManager.reset();
     this.columnManager.recalculateMinMaxValues();
     this.dataGridResize.setInitialSize();
     this.addHighlighterManager();
@@ -196,6 +200,7 @@ export class BeakerXDataGrid extends DataGrid {
     this.cellManager.destroy();
     this.cellSelectionManager.destroy();
     this.cellTooltipManager.destroy();
+    this.lazyCellPropertiesManager.destroy();
     this.highlighterManager.destroy();
     this.dataGridResize.destroy();
     this.rowManager.destroy();
@@ -205,6 +210,7 @@ export class BeakerXDataGrid extends DataGrid {
     setTimeout(() => {
       this.cellSelectionManager = null;
       this.cellTooltipManager = null;
+      this.lazyCellPropertiesManager = null;
       this.highlighterManager = null;
       this.cellFocusManager = null;
       this.dataGridResize = null;
@@ -231,6 +237,10 @@ export class BeakerXDataGrid extends DataGrid {
       return true;
     }
 
+    if (msg.type === 'paint-request') {
+      this.lazyCellPropertiesManager.requestVisibleRows();
+    }
+
     if (msg.type === 'paint-request' && this.columnPosition.dropCellData) {
       this.colorizeColumnBorder(this.columnPosition.dropCellData, BeakerXThemeHelper.DEFAULT_HIGHLIGHT_COLOR);
     }
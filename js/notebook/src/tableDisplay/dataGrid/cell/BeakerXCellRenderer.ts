@@ -163,8 +163,9 @@ export default abstract class BeakerXCellRenderer extends TextRenderer {
     }
 
     let colors = selectFontColor(this.store.state);
-    let dataFontColor = colors && colors[config.row]
-      ? formatColor(colors[config.row][config.column])
+    let row = this.dataGrid.rowManager.getRow(config.row);
+    let dataFontColor = colors && row && colors[row.index]
+      ? formatColor(colors[row.index][config.column])
       : BeakerXThemeHelper.DEFAULT_DATA_FONT_COLOR;
 
     return config.region === 'column-header' || config.region === "corner-header"
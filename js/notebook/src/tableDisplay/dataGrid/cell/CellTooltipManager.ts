@@ -64,6 +64,7 @@ export default class CellTooltipManager {
     }
 
     this.hideTooltips();
+    this.tooltips = selectTooltips(this.dataGrid.store.state);
     if (this.shouldShowTooltip(data)) {
       this.showTooltip(data);
     }
@@ -109,6 +110,9 @@ export default class CellTooltipManager {
       return column.getDataTypeName() || typeof data.value;
     }
 
-    return this.tooltips[data.row][column.index] || '';
+    const row = this.dataGrid.rowManager.getRow(data.row);
+    const rowTooltips = row && this.tooltips[row.index];
+
+    return rowTooltips && rowTooltips[column.index] || '';
   }
 }
@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+import {BeakerXDataGrid} from "../BeakerXDataGrid";
+import {selectLazyCellProperties, selectModel} from "../model/selectors/model";
+import {DataGridHelpers} from "../dataGridHelpers";
+import throttle = DataGridHelpers.throttle;
+
+/**
+ * Asks the kernel for tooltips and font colors of the rows in the viewport,
+ * rows are requested once and filled into the model as they arrive.
+ */
+export default class LazyCellPropertiesManager {
+  dataGrid: BeakerXDataGrid;
+  requestedRows: { [row: number]: boolean } = {};
+
+  constructor(dataGrid: BeakerXDataGrid) {
+    this.dataGrid = dataGrid;
+    this.requestVisibleRows = throttle<void, void>(this.requestVisibleRows, 100, this);
+  }
+
+  destroy(): void {
+    setTimeout(() => {
+      this.dataGrid = null;
+      this.requestedRows = null;
+    });
+  }
+
+  reset(): void {
+    this.requestedRows = {};
+  }
+
+  requestVisibleRows(): void {
+    if (!this.dataGrid || !selectLazyCellProperties(this.dataGrid.store.state)) {
+      return;
+    }
+
+    const rowManager = this.dataGrid.rowManager;
+    const firstRow = Math.max(0, this.dataGrid.rowSections.sectionIndex(this.dataGrid.scrollY));
+    const lastRow = this.dataGrid.rowSections.sectionIndex(this.dataGrid.scrollY + this.dataGrid.pageHeight);
+    const lastVisibleRow = lastRow < 0 ? rowManager.rows.length - 1 : lastRow;
+    const rows = [];
+
+    for (let i = firstRow; i <= lastVisibleRow; i++) {
+      const row = rowManager.getRow(i);
+
+      if (row && !this.requestedRows[row.index]) {
+        this.requestedRows[row.index] = true;
+        rows.push(row.index);
+      }
+    }
+
+    if (rows.length > 0) {
+      this.dataGrid.commSignal.emit({ event: 'CELL_PROPERTIES', rows });
+    }
+  }
+
+  update({ rows, tooltips, fontColor }): void {
+    const model = selectModel(this.dataGrid.store.state);
+
+    rows.forEach((row, i) => {
+      if (tooltips.length > 0) {
+        model.tooltips[row] = tooltips[i];
+      }
+
+      if (fontColor.length > 0) {
+        model.fontColor[row] = fontColor[i];
+      }
+    });
+
+    this.dataGrid.repaint();
+  }
+}
@@ -33,6 +33,7 @@ export default interface IDataModelState {
   filteredValues?: any[],
   hasDoubleClickAction?: boolean,
   hasIndex: boolean,
+  lazyCellProperties?: boolean,
   headerFontSize?: number|null,
   headersVertical?: boolean,
   rendererForColumn?: {},
@@ -29,6 +29,7 @@ export const selectHeadersVertical = (state) => selectModel(state).headersVertic
 export const selectHeaderFontSize = (state) => selectModel(state).headerFontSize;
 export const selectDataFontSize = (state) => selectModel(state).dataFontSize;
 export const selectFontColor = (state) => selectModel(state).fontColor;
+export const selectLazyCellProperties = (state) => selectModel(state).lazyCellProperties;
 export const selectRawColumnNames = (state) => selectModel(state).columnNames || [];
 export const selectAlignmentForColumn = (state, dataType, columnName) => (selectModel(state).alignmentForColumn || {})[columnName];
 export const selectAlignmentForType = (state, dataType) => (selectModel(state).alignmentForType || {})[ALL_TYPES[dataType]];
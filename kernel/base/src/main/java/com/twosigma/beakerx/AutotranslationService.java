@@ -15,12 +15,23 @@
  */
 package com.twosigma.beakerx;
 
+import java.io.Reader;
+import java.util.function.Function;
+
 public interface AutotranslationService {
 
+  Object UNDEFINED = new Object();
+
   String update(String name, String json);
 
   String get(String name);
 
+  /**
+   * Streams the value of the name into the parser without materializing it as a String.
+   * Returns UNDEFINED when the name is not defined.
+   */
+  Object get(String name, Function<Reader, Object> parser);
+
   String close();
 
   String getContextAsString();
@@ -15,24 +15,52 @@
  */
 package com.twosigma.beakerx;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import com.google.gson.Gson;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.fluent.Executor;
 import org.apache.http.client.fluent.Request;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
 public class AutotranslationServiceImpl implements AutotranslationService {
 
   public static final String AUTHORIZATION = "Authorization";
+  public static final String ETAG = "ETag";
+  public static final String IF_NONE_MATCH = "If-None-Match";
   public static final String LOCALHOST = "http://localhost:";
   public static final String AUTOTRANSLTION = "/autotransltion/";
   public static final String BEAKERX = "beakerx";
+  public static final String UNDEFINED_VALUE = "undefined";
+  public static final int FILE_TRANSPORT_THRESHOLD = 1024 * 1024;
+  private static final Executor EXECUTOR = Executor.newInstance(HttpClients.custom()
+          .setConnectionManager(new PoolingHttpClientConnectionManager())
+          .build());
   private final String contextAsString;
   private final AutotranslationContext context;
+  private final String auth;
+  private final Map<String, VersionedValue> cache = new ConcurrentHashMap<>();
 
   public static AutotranslationService createAsSubkernel(String configuration) {
     return new AutotranslationServiceImpl(configuration);
@@ -53,6 +81,7 @@ public class AutotranslationServiceImpl implements AutotranslationService {
     String c = (String) map.get("contextId");
     String port = (String) map.get("port");
     this.context = new AutotranslationContext(c, port);
+    this.auth = auth();
     this.contextAsString = configuration;
   }
 
@@ -62,11 +91,12 @@ public class AutotranslationServiceImpl implements AutotranslationService {
 
   @Override
   public String update(String name, String json) {
+    cache.remove(name);
     try {
-      String reply = Request.Post(LOCALHOST + this.context.getPort() + AUTOTRANSLTION)
-              .addHeader(AUTHORIZATION, auth())
-              .bodyString(createBody(name, json), ContentType.APPLICATION_JSON)
-              .execute().returnContent().asString();
+      Request request = Request.Post(LOCALHOST + this.context.getPort() + AUTOTRANSLTION)
+              .addHeader(AUTHORIZATION, auth)
+              .bodyString(createBody(name, json, transportDir()), ContentType.APPLICATION_JSON);
+      String reply = EXECUTOR.execute(request).returnContent().asString();
       if (!reply.equals("ok")) {
         throw new RuntimeException(reply);
       }
@@ -80,10 +110,7 @@ public class AutotranslationServiceImpl implements AutotranslationService {
   public String get(String name) {
     String valueString = "";
     try {
-      valueString = Request
-              .Get(LOCALHOST + this.context.getPort() + AUTOTRANSLTION + this.context.getContextId() + "/" + name)
-              .addHeader(AUTHORIZATION, auth())
-              .execute()
+      valueString = EXECUTOR.execute(getRequest(name))
               .returnContent()
               .asString();
     } catch (IOException e) {
@@ -92,15 +119,97 @@ public class AutotranslationServiceImpl implements AutotranslationService {
     return valueString;
   }
 
-  private String createBody(String name, String json) {
+  /**
+   * The server tags every value with a version, a value which did not change since the last read
+   * is answered with 304 and served from the deserialized cache. Only immutable values are cached,
+   * a reader never gets an object another reader could have changed.
+   */
+  @Override
+  public Object get(String name, Function<Reader, Object> parser) {
+    VersionedValue cached = cache.get(name);
+    Request request = getRequest(name);
+    if (cached != null) {
+      request.addHeader(IF_NONE_MATCH, cached.getVersion());
+    }
+    try {
+      return EXECUTOR.execute(request).handleResponse(response -> {
+        if (cached != null && response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_MODIFIED) {
+          return cached.getValue();
+        }
+        Object value = parse(response, parser);
+        Header version = response.getFirstHeader(ETAG);
+        if (version != null && isImmutable(value)) {
+          cache.put(name, new VersionedValue(version.getValue(), value));
+        } else {
+          cache.remove(name);
+        }
+        return value;
+      });
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static boolean isImmutable(Object value) {
+    return value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character;
+  }
+
+  private Request getRequest(String name) {
+    return Request
+            .Get(LOCALHOST + this.context.getPort() + AUTOTRANSLTION + this.context.getContextId() + "/" + name)
+            .addHeader(AUTHORIZATION, auth);
+  }
+
+  private static Object parse(HttpResponse response, Function<Reader, Object> parser) throws IOException {
+    StatusLine statusLine = response.getStatusLine();
+    if (statusLine.getStatusCode() >= 300) {
+      throw new HttpResponseException(statusLine.getStatusCode(), statusLine.getReasonPhrase());
+    }
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8))) {
+      char[] head = new char[UNDEFINED_VALUE.length() + 1];
+      reader.mark(head.length);
+      int length = IOUtils.read(reader, head);
+      if (UNDEFINED_VALUE.equals(new String(head, 0, length))) {
+        return UNDEFINED;
+      }
+      reader.reset();
+      return parser.apply(reader);
+    }
+  }
+
+  /**
+   * Values above FILE_TRANSPORT_THRESHOLD are written to the directory shared with the autotranslation server
+   * and only their path is posted, the server streams them back to readers in chunks.
+   */
+  private String createBody(String name, String json, Optional<Path> transportDir) throws IOException {
     Map<String, String> context = new HashMap<>();
     context.put("name", name);
-    context.put("json", json);
+    if (json.length() > FILE_TRANSPORT_THRESHOLD && transportDir.isPresent()) {
+      context.put("file", writeToFile(transportDir.get(), json).toString());
+    } else {
+      context.put("json", json);
+    }
     context.put("sessionId", this.context.getContextId());
     Gson gson = new Gson();
     return gson.toJson(context);
   }
 
+  private static Path writeToFile(Path dir, String json) throws IOException {
+    Path file = Files.createTempFile(dir, BEAKERX, ".json");
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write(json);
+    }
+    return file;
+  }
+
+  private static Optional<Path> transportDir() {
+    String dir = System.getenv("BEAKERX_AUTOTRANSLATION_DIR");
+    if (dir == null || !Files.isDirectory(Paths.get(dir))) {
+      return Optional.empty();
+    }
+    return Optional.of(Paths.get(dir));
+  }
+
   private String auth() {
     String authString = getBasic_auth_username() + ":" + getBasic_auth_password();
     return "Basic " + Base64.encodeBase64String(authString.getBytes(StandardCharsets.UTF_8));
@@ -123,6 +232,24 @@ public class AutotranslationServiceImpl implements AutotranslationService {
     return "ok";
   }
 
+  private static class VersionedValue {
+    private final String version;
+    private final Object value;
+
+    VersionedValue(String version, Object value) {
+      this.version = version;
+      this.value = value;
+    }
+
+    public String getVersion() {
+      return version;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
   private static class AutotranslationContext {
     private String contextId;
     private String port;
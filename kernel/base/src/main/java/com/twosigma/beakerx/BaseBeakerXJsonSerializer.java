@@ -21,6 +21,7 @@ import com.twosigma.beakerx.jvm.serialization.BeakerObjectConverter;
 import com.twosigma.beakerx.table.TableDisplayToJson;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringWriter;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
@@ -65,4 +66,13 @@ public abstract class BaseBeakerXJsonSerializer implements BeakerXJsonSerializer
       throw new RuntimeException(e);
     }
   }
+
+  @Override
+  public Object fromJson(Reader json) {
+    try {
+      return serializer.deserialize(objectMapper.readTree(json), objectMapper);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
 }
@@ -15,6 +15,8 @@
  */
 package com.twosigma.beakerx;
 
+import com.twosigma.beakerx.jvm.object.ProgressScope;
+
 import java.util.List;
 import java.util.concurrent.SynchronousQueue;
 
@@ -26,6 +28,12 @@ public interface BeakerXClient {
 
   void showProgressUpdate(String message, int progress);
 
+  /**
+   * Progress of a job with total items, updates are coalesced so it can be called from an inner loop.
+   * Multi-stage jobs open a nested scope per stage with {@link ProgressScope#stage}.
+   */
+  ProgressScope progress(String name, long total);
+
   void delBeaker();
 
   String update(String name, Object value);
@@ -17,24 +17,29 @@ package com.twosigma.beakerx;
 
 import com.twosigma.beakerx.kernel.comm.Comm;
 import com.twosigma.beakerx.kernel.comm.TargetNamesEnum;
+import com.twosigma.beakerx.widget.WidgetDataStore;
 
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Stream;
 
+/**
+ * Comms by id, indexed by target name. All operations go through the concurrent maps without taking a lock.
+ */
 public class BeakerXCommRepository implements CommRepository {
 
-  private Map<String, Comm> commMap;
+  private final Map<String, Comm> commMap;
+  private final Map<String, Map<String, Comm>> commsByTargetName;
   private Comm autotranslationComm;
 
   public BeakerXCommRepository() {
     this.commMap = new ConcurrentHashMap<>();
+    this.commsByTargetName = new ConcurrentHashMap<>();
   }
 
   @Override
-  public Comm getOrCreateAutotranslationComm() {
+  public synchronized Comm getOrCreateAutotranslationComm() {
     if (autotranslationComm == null) {
       autotranslationComm = new Comm(TargetNamesEnum.BEAKER_AUTOTRANSLATION);
       autotranslationComm.open();
@@ -44,16 +49,16 @@ public class BeakerXCommRepository implements CommRepository {
 
   @Override
   public Comm getCommByTargetName(String targetName) {
-    Stream<Map.Entry<String, Comm>> entryStream = commMap.entrySet().stream().filter(x -> x.getValue().getTargetName().equals(targetName));
-    Optional<Map.Entry<String, Comm>> first = entryStream.findFirst();
-    if (first.isPresent()) {
-      return first.get().getValue();
+    Map<String, Comm> comms = commsByTargetName.get(indexKey(targetName));
+    if (comms == null) {
+      return null;
     }
-    return null;
+    Iterator<Comm> iterator = comms.values().iterator();
+    return iterator.hasNext() ? iterator.next() : null;
   }
 
   @Override
-  public void closeComms() {
+  public synchronized void closeComms() {
     this.commMap.values().forEach(Comm::close);
     if (autotranslationComm != null) {
       autotranslationComm.close();
@@ -61,28 +66,41 @@ public class BeakerXCommRepository implements CommRepository {
     }
   }
 
-  public synchronized boolean isCommPresent(String hash) {
-    return commMap.containsKey(hash);
+  public boolean isCommPresent(String hash) {
+    return hash != null && commMap.containsKey(hash);
   }
 
   public Set<String> getCommHashSet() {
     return commMap.keySet();
   }
 
-  public synchronized void addComm(String hash, Comm commObject) {
-    if (!isCommPresent(hash)) {
-      commMap.put(hash, commObject);
+  public void addComm(String hash, Comm commObject) {
+    if (commMap.putIfAbsent(hash, commObject) == null) {
+      commsByTargetName.compute(indexKey(commObject.getTargetName()), (targetName, comms) -> {
+        Map<String, Comm> result = comms != null ? comms : new ConcurrentHashMap<>();
+        result.put(hash, commObject);
+        return result;
+      });
     }
   }
 
-  public synchronized Comm getComm(String hash) {
+  public Comm getComm(String hash) {
     return commMap.get(hash != null ? hash : "");
   }
 
-  public synchronized void removeComm(String hash) {
-    if (hash != null && isCommPresent(hash)) {
-      commMap.remove(hash);
+  public void removeComm(String hash) {
+    Comm removed = hash != null ? commMap.remove(hash) : null;
+    if (removed != null) {
+      commsByTargetName.computeIfPresent(indexKey(removed.getTargetName()), (targetName, comms) -> {
+        comms.remove(hash);
+        return comms.isEmpty() ? null : comms;
+      });
+      WidgetDataStore.getInstance().unregister(hash);
     }
   }
 
+  private static String indexKey(String targetName) {
+    return targetName != null ? targetName : "";
+  }
+
 }
@@ -15,10 +15,14 @@
  */
 package com.twosigma.beakerx;
 
+import java.io.Reader;
+
 public interface BeakerXJsonSerializer {
 
   String toJson(Object value);
 
   Object fromJson(String json);
 
+  Object fromJson(Reader json);
+
 }
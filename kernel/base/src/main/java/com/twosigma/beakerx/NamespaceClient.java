@@ -16,6 +16,7 @@
 package com.twosigma.beakerx;
 
 import com.twosigma.beakerx.evaluator.InternalVariable;
+import com.twosigma.beakerx.jvm.object.ProgressScope;
 import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
 import com.twosigma.beakerx.kernel.ConfigurationFile;
 import com.twosigma.beakerx.kernel.KernelManager;
@@ -58,6 +59,12 @@ public class NamespaceClient implements BeakerXClient {
     seo.structuredUpdate(message, progress);
   }
 
+  @Override
+  public ProgressScope progress(String name, long total) {
+    SimpleEvaluationObject seo = InternalVariable.getSimpleEvaluationObject();
+    return seo.progress(name, total);
+  }
+
   @Override
   public void delBeaker() {
     autotranslationService.close();
@@ -65,11 +72,11 @@ public class NamespaceClient implements BeakerXClient {
 
   @Override
   public Object get(final String name) {
-    String json = autotranslationService.get(name);
-    if ("undefined".equals(json)) {
+    Object value = autotranslationService.get(name, beakerXJsonSerializer::fromJson);
+    if (value == AutotranslationService.UNDEFINED) {
       throw new RuntimeException("name '" + name + "' is not defined on the beakerx object");
     }
-    return beakerXJsonSerializer.fromJson(json);
+    return value;
   }
 
   @Override
@@ -16,19 +16,14 @@
 
 package com.twosigma.beakerx.autocomplete;
 
-import org.apache.commons.lang3.StringUtils;
+import com.twosigma.beakerx.util.ClassPathIndex;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
-import java.util.jar.Manifest;
 
 public class AutocompleteClasspathScanner {
   protected Map<String,List<String>> packages;
@@ -75,50 +70,31 @@ public class AutocompleteClasspathScanner {
         }
     } else {
       if (file.getName().toLowerCase().endsWith(".jar") && includeJars) {
-        JarFile jar = null;
-        try {
-          jar = new JarFile(file);
-        } catch (Exception ex) {
-        }
-        if (jar != null) {
-          try {
-            Manifest mf = jar.getManifest();
-            if(mf != null){
-              String cp = mf.getMainAttributes().getValue("Class-Path");
-              if (StringUtils.isNotEmpty(cp)) {
-                for (String fn : cp.split(" ")) {
-                  if (!fn.equals(".")) {
-                    File child = new File(file.getParent() + System.getProperty("file.separator") + fn);
-                    if (child.getAbsolutePath().equals(jar.getName())) {
-                      continue; //skip bad jars, that contain references to themselves in MANIFEST.MF
-                    }
-                    if (child.exists()) {
-                      if (!findClasses(root, child, includeJars)) {
-                        return false;
-                      }
-                    }
-                  }
-                }
+        ClassPathIndex.JarListing jar = ClassPathIndex.listJar(file);
+        for (String fn : jar.getManifestClassPath()) {
+          if (!fn.equals(".")) {
+            File child = new File(file.getParent() + System.getProperty("file.separator") + fn);
+            if (child.getAbsolutePath().equals(file.getAbsolutePath())) {
+              continue; //skip bad jars, that contain references to themselves in MANIFEST.MF
+            }
+            if (child.exists()) {
+              if (!findClasses(root, child, includeJars)) {
+                return false;
               }
             }
-          }catch (IOException e){
           }
-
-          Enumeration<JarEntry> entries = jar.entries();
-          while (entries.hasMoreElements()) {
-            JarEntry entry = entries.nextElement();
-            String name = entry.getName();
-            int extIndex = name.lastIndexOf(".class");
-            if (extIndex > 0 && !name.contains("$")) {
-              String cname = name.substring(0, extIndex).replace("/", ".");
-              int pIndex = cname.lastIndexOf('.');
-              if(pIndex > 0) {
-                String pname = cname.substring(0, pIndex);
-                cname = cname.substring(pIndex+1);
-                if(!packages.containsKey(pname))
-                  packages.put(pname, new ArrayList<String>());
-                packages.get(pname).add(cname);
-              }
+        }
+        for (String name : jar.getEntries()) {
+          int extIndex = name.lastIndexOf(".class");
+          if (extIndex > 0 && !name.contains("$")) {
+            String cname = name.substring(0, extIndex).replace("/", ".");
+            int pIndex = cname.lastIndexOf('.');
+            if(pIndex > 0) {
+              String pname = cname.substring(0, pIndex);
+              cname = cname.substring(pIndex+1);
+              if(!packages.containsKey(pname))
+                packages.put(pname, new ArrayList<String>());
+              packages.get(pname).add(cname);
             }
           }
         }
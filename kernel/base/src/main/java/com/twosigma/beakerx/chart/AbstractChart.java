@@ -16,6 +16,7 @@
 
 package com.twosigma.beakerx.chart;
 
+import com.twosigma.beakerx.chart.serializer.AbstractChartSerializer;
 import com.twosigma.beakerx.chart.xychart.plotitem.Crosshair;
 import com.twosigma.beakerx.chart.xychart.plotitem.YAxis;
 
@@ -77,7 +78,7 @@ public abstract class AbstractChart extends Chart {
 
   public AbstractChart add(YAxis yAxis) {
     this.yAxes.add(yAxis);
-    sendModelUpdate(ChartToJson.serializeYAxes(this.yAxes));
+    sendModelUpdate(AbstractChartSerializer.RANGE_AXES, () -> ChartToJson.serializeYAxes(this.yAxes));
     return this;
   }
 
@@ -94,11 +95,13 @@ public abstract class AbstractChart extends Chart {
   }
 
   public AbstractChart add(List items) {
-    for (Object o : items) {
-      if (o instanceof YAxis) {
-        add((YAxis) o);
+    batch(() -> {
+      for (Object o : items) {
+        if (o instanceof YAxis) {
+          add((YAxis) o);
+        }
       }
-    }
+    });
     return this;
   }
 
@@ -183,7 +183,7 @@ public abstract class Chart extends ChartDetails {
 
   @Override
   protected Map serializeToJsonObject() {
-    return ChartToJson.toJson(this);
+    return ChartToJson.toStreamingJson(this);
   }
 
   @Override
@@ -71,6 +71,7 @@ import com.twosigma.beakerx.chart.serializer.ConstantBandSerializer;
 import com.twosigma.beakerx.chart.serializer.ConstantLineSerializer;
 import com.twosigma.beakerx.chart.serializer.CrosshairSerializer;
 import com.twosigma.beakerx.chart.serializer.GradientColorSerializer;
+import com.twosigma.beakerx.chart.serializer.GraphicsSerializer;
 import com.twosigma.beakerx.chart.serializer.HeatMapSerializer;
 import com.twosigma.beakerx.chart.serializer.HistogramSerializer;
 import com.twosigma.beakerx.chart.serializer.LegendPositionSerializer;
@@ -82,11 +83,13 @@ import com.twosigma.beakerx.chart.serializer.TextSerializer;
 import com.twosigma.beakerx.chart.serializer.TreeMapNodeSerializer;
 import com.twosigma.beakerx.chart.serializer.TreeMapSerializer;
 import com.twosigma.beakerx.chart.serializer.XYChartSerializer;
+import com.twosigma.beakerx.chart.serializer.XYGraphicsSerializer;
 import com.twosigma.beakerx.chart.serializer.YAxisSerializer;
 import com.twosigma.beakerx.chart.treemap.Mode;
 import com.twosigma.beakerx.chart.treemap.TreeMap;
 import com.twosigma.beakerx.chart.treemap.ValueAccessor;
 import com.twosigma.beakerx.chart.xychart.CombinedPlot;
+import com.twosigma.beakerx.chart.xychart.NanoPlot;
 import com.twosigma.beakerx.chart.xychart.XYChart;
 import com.twosigma.beakerx.chart.xychart.plotitem.Area;
 import com.twosigma.beakerx.chart.xychart.plotitem.Bars;
@@ -101,6 +104,7 @@ import com.twosigma.beakerx.chart.xychart.plotitem.Stems;
 import com.twosigma.beakerx.chart.xychart.plotitem.Text;
 import com.twosigma.beakerx.chart.xychart.plotitem.XYGraphics;
 import com.twosigma.beakerx.chart.xychart.plotitem.YAxis;
+import com.twosigma.beakerx.widget.StreamingModel;
 import java.util.ArrayList;
 import java.util.Hashtable;
 import java.util.LinkedHashMap;
@@ -158,6 +162,10 @@ public class ChartToJson {
     }
   }
 
+  public static Map toStreamingJson(Object result) {
+    return new StreamingModel(result, getMapper());
+  }
+
   private static ObjectMapper getMapper() {
     return mapper;
   }
@@ -316,6 +324,12 @@ public class ChartToJson {
     return value;
   }
 
+  public static Map<Object, Object> serializeHeatmapData(HeatMap heatMap) {
+    Map<Object, Object> value = new LinkedHashMap<>();
+    value.put(HeatMapSerializer.GRAPHICS_LIST, toJson(heatMap).get(HeatMapSerializer.GRAPHICS_LIST));
+    return value;
+  }
+
   public static Map<Object, Object> serializeHeatmapGradientColor(GradientColor data) {
     Map<Object, Object> value = new LinkedHashMap<>();
     value.put(COLOR, getMapper().convertValue(data, Object.class));
@@ -342,6 +356,15 @@ public class ChartToJson {
     return value;
   }
 
+  public static Map<String, Object> serializePointsAppended(XYChart xyChart, XYGraphics graphics, List<Number> xs, List<Number> ys) {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put(GraphicsSerializer.UID, graphics.getUid());
+    value.put(XYGraphicsSerializer.X, NanoPlot.isNanoPlotClass(xyChart.getClass()) ? XYGraphicsSerializer.processLargeNumbers(xs) : xs);
+    value.put(XYGraphicsSerializer.Y, ys);
+    value.put(XYGraphicsSerializer.MAX_POINTS, graphics.getMaxPoints());
+    return value;
+  }
+
   public static Map<Object, Object> serializeConstantBands(List<ConstantBand> constantBands) {
     List result = new ArrayList();
     for (ConstantBand item : constantBands) {
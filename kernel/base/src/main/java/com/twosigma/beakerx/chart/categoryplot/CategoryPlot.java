@@ -19,6 +19,7 @@ package com.twosigma.beakerx.chart.categoryplot;
 import com.twosigma.beakerx.chart.AbstractChart;
 import com.twosigma.beakerx.chart.ChartToJson;
 import com.twosigma.beakerx.chart.categoryplot.plotitem.CategoryGraphics;
+import com.twosigma.beakerx.chart.serializer.CategoryPlotSerializer;
 import com.twosigma.beakerx.chart.xychart.plotitem.PlotOrientationType;
 import java.util.ArrayList;
 import java.util.List;
@@ -58,19 +59,21 @@ public class CategoryPlot extends AbstractChart {
 
   public CategoryPlot add(CategoryGraphics graphics) {
     this.categoryGraphics.add(graphics);
-    sendModelUpdate(ChartToJson.serializeCategoryGraphics(this.categoryGraphics));
+    sendModelUpdate(CategoryPlotSerializer.GRAPHICS_LIST, () -> ChartToJson.serializeCategoryGraphics(this.categoryGraphics));
     return this;
   }
 
   @Override
   public CategoryPlot add(List items) {
-    for (Object o : items) {
-      if (o instanceof CategoryGraphics) {
-        add((CategoryGraphics) o);
-      } else {
-        super.add(items);
+    batch(() -> {
+      for (Object o : items) {
+        if (o instanceof CategoryGraphics) {
+          add((CategoryGraphics) o);
+        } else {
+          super.add(items);
+        }
       }
-    }
+    });
     return this;
   }
 
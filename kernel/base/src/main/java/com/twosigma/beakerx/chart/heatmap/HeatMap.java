@@ -22,12 +22,16 @@ import com.twosigma.beakerx.chart.GradientColor;
 import com.twosigma.beakerx.chart.legend.LegendLayout;
 import com.twosigma.beakerx.chart.legend.LegendPosition;
 
+import java.util.Arrays;
+
 import static com.twosigma.beakerx.widget.BeakerxPlot.MODEL_NAME_VALUE;
 import static com.twosigma.beakerx.widget.BeakerxPlot.VIEW_NAME_VALUE;
 
 public class HeatMap extends AbstractChart {
 
   private Number[][] data;
+  private double[][] doubleData;
+  private HeatMapAggregation aggregation = HeatMapAggregation.MEAN;
   private GradientColor color = GradientColor.BROWN_RED_YELLOW;
 
   public static final int ROWS_LIMIT = 100;
@@ -67,11 +71,39 @@ public class HeatMap extends AbstractChart {
   }
 
   public Number[][] getData() {
+    if (data == null && doubleData != null) {
+      return Arrays.stream(doubleData)
+              .map(row -> Arrays.stream(row).boxed().toArray(Number[]::new))
+              .toArray(Number[][]::new);
+    }
     return data;
   }
 
   public void setData(Number[][] data) {
     this.data = data;
-    sendModelUpdate(ChartToJson.serializeHeatmapData(this.data));
+    this.doubleData = null;
+    sendModelUpdate(ChartToJson.serializeHeatmapData(this));
+  }
+
+  public double[][] getDoubleData() {
+    return doubleData;
+  }
+
+  /**
+   * Sets primitive data, which is reduced without boxing every value when the heatmap is too big to display.
+   */
+  public void setDoubleData(double[][] data) {
+    this.doubleData = data;
+    this.data = null;
+    sendModelUpdate(ChartToJson.serializeHeatmapData(this));
+  }
+
+  public HeatMapAggregation getAggregation() {
+    return aggregation;
+  }
+
+  public void setAggregation(HeatMapAggregation aggregation) {
+    this.aggregation = aggregation;
+    sendModelUpdate(ChartToJson.serializeHeatmapData(this));
   }
 }
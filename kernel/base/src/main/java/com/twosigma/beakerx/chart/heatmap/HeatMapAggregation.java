@@ -0,0 +1,27 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.chart.heatmap;
+
+/**
+ * How a heatmap which exceeds the display limits is reduced. SAMPLE keeps every n-th element,
+ * the other modes combine each tile of the original data into a single value.
+ */
+public enum HeatMapAggregation {
+  SAMPLE,
+  MEAN,
+  MAX,
+  MIN
+}
@@ -33,12 +33,13 @@ import java.util.Map;
 public class GraphicsSerializer <T extends Graphics> extends JsonSerializer<T> {
 
     public static final String TYPE = "type";
+    public static final String UID = "uid";
 
     @Override
     public void serialize(T graphics, JsonGenerator jgen, SerializerProvider sp)
             throws IOException, JsonProcessingException {
         jgen.writeObjectField(TYPE, SerializerUtil.getTypeName(graphics));
-        jgen.writeObjectField("uid", graphics.getUid());
+        jgen.writeObjectField(UID, graphics.getUid());
         jgen.writeObjectField("visible", graphics.getVisible());
         jgen.writeObjectField("yAxis", graphics.getYAxis());
         jgen.writeObjectField("hasClickAction", graphics.hasClickAction());
@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.chart.serializer;
+
+import com.twosigma.beakerx.chart.heatmap.HeatMapAggregation;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Reduces a heatmap to at most rowLimit x columnLimit tiles, every tile holds the mean, max or min
+ * of the block of original values it covers, so peaks between sampled points are not lost.
+ * Tile rows are computed in parallel. NaN and null values are skipped, a tile without any value is null.
+ */
+public class HeatMapAggregator {
+
+  private final int columnLimit;
+  private final int rowLimit;
+
+  public HeatMapAggregator(int columnLimit, int rowLimit) {
+    this.columnLimit = columnLimit;
+    this.rowLimit = rowLimit;
+  }
+
+  public Number[][] aggregate(double[][] data, HeatMapAggregation aggregation) {
+    if (aggregation == HeatMapAggregation.SAMPLE) {
+      throw new IllegalArgumentException("Sampling is done by HeatMapReducer");
+    }
+    int rows = data.length;
+    int columns = maxColumns(data);
+    int tileRows = Math.min(rows, rowLimit);
+    int tileColumns = Math.min(columns, columnLimit);
+    return IntStream.range(0, tileRows)
+            .parallel()
+            .mapToObj(tileRow -> aggregateTileRow(data, tileRow, tileRows, columns, tileColumns, aggregation))
+            .toArray(Number[][]::new);
+  }
+
+  private Number[] aggregateTileRow(double[][] data, int tileRow, int tileRows, int columns, int tileColumns, HeatMapAggregation aggregation) {
+    int fromRow = (int) ((long) tileRow * data.length / tileRows);
+    int toRow = (int) ((long) (tileRow + 1) * data.length / tileRows);
+    double[] acc = new double[tileColumns];
+    int[] count = new int[tileColumns];
+    for (int r = fromRow; r < toRow; r++) {
+      double[] row = data[r];
+      if (row == null) {
+        continue;
+      }
+      for (int c = 0; c < row.length; c++) {
+        double value = row[c];
+        if (Double.isNaN(value)) {
+          continue;
+        }
+        int tileColumn = (int) ((long) c * tileColumns / columns);
+        acc[tileColumn] = (count[tileColumn] == 0) ? value : combine(acc[tileColumn], value, aggregation);
+        count[tileColumn]++;
+      }
+    }
+    Number[] result = new Number[tileColumns];
+    for (int i = 0; i < tileColumns; i++) {
+      if (count[i] > 0) {
+        result[i] = (aggregation == HeatMapAggregation.MEAN) ? acc[i] / count[i] : acc[i];
+      }
+    }
+    return result;
+  }
+
+  private static double combine(double current, double value, HeatMapAggregation aggregation) {
+    switch (aggregation) {
+      case MAX:
+        return Math.max(current, value);
+      case MIN:
+        return Math.min(current, value);
+      default:
+        return current + value;
+    }
+  }
+
+  private static int maxColumns(double[][] data) {
+    return Arrays.stream(data)
+            .mapToInt(row -> row == null ? 0 : row.length)
+            .max()
+            .orElse(0);
+  }
+
+  public static double[][] toPrimitive(Number[][] data) {
+    return Arrays.stream(data)
+            .parallel()
+            .map(row -> {
+              if (row == null) {
+                return new double[0];
+              }
+              double[] values = new double[row.length];
+              for (int i = 0; i < row.length; i++) {
+                values[i] = (row[i] == null) ? Double.NaN : row[i].doubleValue();
+              }
+              return values;
+            })
+            .toArray(double[][]::new);
+  }
+
+  public static int totalPoints(double[][] data) {
+    return Arrays.stream(data)
+            .mapToInt(row -> row == null ? 0 : row.length)
+            .sum();
+  }
+
+}
@@ -72,20 +72,33 @@ public class HeatMapReducer {
   }
 
   private int findStepForRow(Number[][] data) {
-    int step = 2;
-    while ((data.length / step) > this.rowLimit) {
-      step++;
-    }
-    return step;
+    return findStep(data.length, this.rowLimit);
   }
 
-
   private int findStepForColumn(Number[] row) {
-    int step = 2;
-    while ((row.length / step) > this.columnLimit) {
-      step++;
+    return findStep(row.length, this.columnLimit);
+  }
+
+  /**
+   * The smallest step (at least 2) for which length / step does not exceed the limit.
+   */
+  private static int findStep(int length, int limit) {
+    return Math.max(2, length / (limit + 1) + 1);
+  }
+
+  public Number[][] limitHeatmap(double[][] data) {
+    Number[][] limitedElementsInRow = Arrays.stream(data)
+            .map(row -> {
+              int step = (row.length > this.columnLimit) ? findStep(row.length, this.columnLimit) : 1;
+              return IntStream.range(0, row.length)
+                      .filter(n -> n % step == 0)
+                      .mapToObj(index -> (Number) row[index])
+                      .toArray(Number[]::new);
+            }).toArray(Number[][]::new);
+    if (totalPoints(limitedElementsInRow) > nodeLimit) {
+      return limitRows(limitedElementsInRow);
     }
-    return step;
+    return limitedElementsInRow;
   }
 
   public static int totalPoints(Number[][] data) {
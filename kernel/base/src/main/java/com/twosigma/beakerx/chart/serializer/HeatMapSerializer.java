@@ -18,6 +18,7 @@ package com.twosigma.beakerx.chart.serializer;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.twosigma.beakerx.chart.heatmap.HeatMap;
+import com.twosigma.beakerx.chart.heatmap.HeatMapAggregation;
 
 import java.io.IOException;
 
@@ -32,31 +33,34 @@ public class HeatMapSerializer extends AbstractChartSerializer<HeatMap> {
   public static final String ITEMS = " items";
 
   private HeatMapReducer heatMapReducer = new HeatMapReducer(COLUMN_LIMIT, ROWS_LIMIT);
+  private HeatMapAggregator heatMapAggregator = new HeatMapAggregator(COLUMN_LIMIT, ROWS_LIMIT);
 
   @Override
   public void serialize(HeatMap heatmap, JsonGenerator jgen, SerializerProvider sp)
           throws IOException {
     jgen.writeStartObject();
     serialize(heatmap, jgen);
-    if (heatmap.getData() == null) {
+    if (heatmap.getDoubleData() != null) {
+      serializeData(heatmap.getDoubleData(), heatmap.getAggregation(), jgen);
+    } else if (heatmap.getData() == null) {
       jgen.writeObjectField(GRAPHICS_LIST, heatmap.getData());
       jgen.writeObjectField(TOTAL_NUMBER_OF_POINTS, 0);
       jgen.writeBooleanField(TOO_MANY_ROWS, false);
     } else {
-      serializeData(heatmap.getData(), jgen);
+      serializeData(heatmap.getData(), heatmap.getAggregation(), jgen);
     }
     jgen.writeObjectField(COLOR, heatmap.getColor());
     jgen.writeEndObject();
   }
 
-  private void serializeData(Number[][] data, JsonGenerator jgen) throws IOException {
+  private void serializeData(Number[][] data, HeatMapAggregation aggregation, JsonGenerator jgen) throws IOException {
     int totalPoints = HeatMapReducer.totalPoints(data);
     boolean tooManyPoints = totalPoints > NUMBER_OF_NODES_LIMIT;
     if (tooManyPoints) {
-      Number[][] limitedHeatMapData = heatMapReducer.limitHeatmap(data);
-      jgen.writeObjectField(GRAPHICS_LIST, limitedHeatMapData);
-      jgen.writeObjectField(ROWS_LIMIT_ITEMS, NUMBER_OF_NODES_LIMIT);
-      jgen.writeObjectField(NUMBER_OF_POINTS_TO_DISPLAY, HeatMapReducer.totalPoints(limitedHeatMapData) + ITEMS);
+      Number[][] limitedHeatMapData = (aggregation == HeatMapAggregation.SAMPLE)
+              ? heatMapReducer.limitHeatmap(data)
+              : heatMapAggregator.aggregate(HeatMapAggregator.toPrimitive(data), aggregation);
+      serializeLimitedData(limitedHeatMapData, jgen);
     } else {
       jgen.writeObjectField(GRAPHICS_LIST, data);
     }
@@ -64,5 +68,26 @@ public class HeatMapSerializer extends AbstractChartSerializer<HeatMap> {
     jgen.writeBooleanField(TOO_MANY_ROWS, tooManyPoints);
   }
 
+  private void serializeData(double[][] data, HeatMapAggregation aggregation, JsonGenerator jgen) throws IOException {
+    int totalPoints = HeatMapAggregator.totalPoints(data);
+    boolean tooManyPoints = totalPoints > NUMBER_OF_NODES_LIMIT;
+    if (tooManyPoints) {
+      Number[][] limitedHeatMapData = (aggregation == HeatMapAggregation.SAMPLE)
+              ? heatMapReducer.limitHeatmap(data)
+              : heatMapAggregator.aggregate(data, aggregation);
+      serializeLimitedData(limitedHeatMapData, jgen);
+    } else {
+      jgen.writeObjectField(GRAPHICS_LIST, data);
+    }
+    jgen.writeObjectField(TOTAL_NUMBER_OF_POINTS, totalPoints);
+    jgen.writeBooleanField(TOO_MANY_ROWS, tooManyPoints);
+  }
+
+  private void serializeLimitedData(Number[][] limitedHeatMapData, JsonGenerator jgen) throws IOException {
+    jgen.writeObjectField(GRAPHICS_LIST, limitedHeatMapData);
+    jgen.writeObjectField(ROWS_LIMIT_ITEMS, NUMBER_OF_NODES_LIMIT);
+    jgen.writeObjectField(NUMBER_OF_POINTS_TO_DISPLAY, HeatMapReducer.totalPoints(limitedHeatMapData) + ITEMS);
+  }
+
 
 }
\ No newline at end of file
@@ -19,19 +19,24 @@ package com.twosigma.beakerx.chart.serializer;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.twosigma.beakerx.kernel.comm.BinaryState;
 import com.twosigma.beakerx.util.SerializerUtil;
 import com.twosigma.beakerx.chart.xychart.plotitem.Rasters;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
 
 public class RastersSerializer extends JsonSerializer<Rasters> {
 
   public static final String TYPE = "type";
+  public static final String VALUE = "value";
+  public static final String MIME_TYPE = "mimeType";
 
   @Override
   public void serialize(Rasters rasters, JsonGenerator jgen, SerializerProvider sp)
@@ -52,7 +57,7 @@ public class RastersSerializer extends JsonSerializer<Rasters> {
 
     // datastring will override file path/url
     if (rasters.getDataString() != null) {
-      jgen.writeObjectField("value", Bytes2Base64(rasters.getDataString(), null));
+      writeImage(jgen, rasters.getDataString(), null);
     } else if (!rasters.getFilePath().isEmpty()) {
       String path = rasters.getFilePath();
       File file = new File(path);
@@ -61,16 +66,16 @@ public class RastersSerializer extends JsonSerializer<Rasters> {
         throw new FileNotFoundException("Cannot find file " + path);
       }
 
-      byte[] picture = Files.readAllBytes(new File(path).toPath());
+      byte[] picture = readFile(file);
       String extension = "";
       int i = path.lastIndexOf('.');
       if (i > 0) {
         extension = path.substring(i + 1);
       }
 
-      jgen.writeObjectField("value", Bytes2Base64(picture, extension));
+      writeImage(jgen, picture, extension);
     } else if (!rasters.getFileUrl().isEmpty()) {
-      jgen.writeObjectField("value", rasters.getFileUrl());
+      jgen.writeObjectField(VALUE, rasters.getFileUrl());
     }
 
     jgen.writeEndObject();
@@ -90,6 +95,26 @@ public class RastersSerializer extends JsonSerializer<Rasters> {
     }
   }
 
+  private void writeImage(JsonGenerator jgen, byte[] bytes, String format) throws IOException {
+    if (BinaryState.writeBinaryField(jgen, VALUE, bytes)) {
+      jgen.writeStringField(MIME_TYPE, "image/" + (format == null || format.isEmpty() ? "png" : format));
+    } else {
+      jgen.writeObjectField(VALUE, Bytes2Base64(bytes, format));
+    }
+  }
+
+  /**
+   * Maps the file instead of reading it through a stream, the bytes are copied once into the message buffer.
+   */
+  private byte[] readFile(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      byte[] bytes = new byte[mapped.remaining()];
+      mapped.get(bytes);
+      return bytes;
+    }
+  }
+
   private String Bytes2Base64(byte[] bytes, String format) {
     StringBuilder sb = new StringBuilder();
     if (format != null) {
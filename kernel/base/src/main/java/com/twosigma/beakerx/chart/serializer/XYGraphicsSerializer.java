@@ -33,6 +33,10 @@ import java.util.List;
 public class XYGraphicsSerializer<T extends XYGraphics> extends GraphicsSerializer<T> {
 
   public static final String DISPLAY_NAME = "display_name";
+  public static final String X = "x";
+  public static final String Y = "y";
+  public static final String APPEND_POINTS = "appendPoints";
+  public static final String MAX_POINTS = "maxPoints";
 
   @Override
   public void serialize(T xyGraphics, JsonGenerator jgen, SerializerProvider sp)
@@ -43,8 +47,8 @@ public class XYGraphicsSerializer<T extends XYGraphics> extends GraphicsSerializ
     super.serialize(xyGraphics, jgen, sp);
 
     boolean isNanoPlot = NanoPlot.isNanoPlotClass(xyGraphics.getPlotType());
-    jgen.writeObjectField("x", isNanoPlot ? processLargeNumbers(xyGraphics.getX()) : xyGraphics.getX());
-    jgen.writeObjectField("y", xyGraphics.getY());
+    jgen.writeObjectField(X, isNanoPlot ? processLargeNumbers(xyGraphics.getX()) : xyGraphics.getX());
+    jgen.writeObjectField(Y, xyGraphics.getY());
     jgen.writeObjectField(DISPLAY_NAME, xyGraphics.getDisplayName());
     if (xyGraphics.getLodFilter() != null){
       jgen.writeObjectField("lod_filter", xyGraphics.getLodFilter().getText());
@@ -64,7 +68,7 @@ public class XYGraphicsSerializer<T extends XYGraphics> extends GraphicsSerializ
     }
   }
 
-  private List<String> processLargeNumbers(List<Number> list) {
+  public static List<String> processLargeNumbers(List<Number> list) {
     List<String> stringList = new ArrayList<>(list.size());
     for(Number n : list) {
       if (n != null){
@@ -188,7 +188,7 @@ public class CombinedPlot extends ChartDetails {
 
   @Override
   protected Map serializeToJsonObject() {
-    return ChartToJson.toJson(this);
+    return ChartToJson.toStreamingJson(this);
   }
 
   @Override
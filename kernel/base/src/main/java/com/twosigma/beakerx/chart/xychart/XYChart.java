@@ -18,6 +18,8 @@ package com.twosigma.beakerx.chart.xychart;
 
 import com.twosigma.beakerx.chart.AbstractChart;
 import com.twosigma.beakerx.chart.ChartToJson;
+import com.twosigma.beakerx.chart.serializer.XYChartSerializer;
+import com.twosigma.beakerx.chart.serializer.XYGraphicsSerializer;
 import com.twosigma.beakerx.chart.xychart.plotitem.ConstantBand;
 import com.twosigma.beakerx.chart.xychart.plotitem.ConstantLine;
 import com.twosigma.beakerx.chart.xychart.plotitem.Rasters;
@@ -42,11 +44,13 @@ abstract public class XYChart extends AbstractChart {
   private Integer lodThreshold = null;
   private boolean xTickLabelsVisible = true;
   private boolean yTickLabelsVisible = true;
+  private final XYGraphics.PointsAppendListener pointsAppendListener = this::sendPointsAppended;
 
   public XYChart add(XYGraphics graphics) {
     graphics.setPlotType(this.getClass());
+    graphics.addPointsAppendListener(pointsAppendListener);
     this.xyGraphics.add(graphics);
-    sendModelUpdate(ChartToJson.serializeXYGraphics(this.xyGraphics));
+    sendModelUpdate(XYChartSerializer.GRAPHICS_LIST, () -> ChartToJson.serializeXYGraphics(this.xyGraphics));
     return this;
   }
 
@@ -54,6 +58,12 @@ abstract public class XYChart extends AbstractChart {
     return add(graphics);
   }
 
+  private void sendPointsAppended(XYGraphics graphics, List<Number> xs, List<Number> ys) {
+    if (this.xyGraphics.contains(graphics)) {
+      sendModelDelta(XYGraphicsSerializer.APPEND_POINTS, ChartToJson.serializePointsAppended(this, graphics, xs, ys));
+    }
+  }
+
   public List<XYGraphics> getGraphics() {
     return this.xyGraphics;
   }
@@ -61,7 +71,7 @@ abstract public class XYChart extends AbstractChart {
   public XYChart add(ConstantLine constantLine) {
     constantLine.setPlotType(this.getClass());
     this.constantLines.add(constantLine);
-    sendModelUpdate(ChartToJson.serializeConstantLines(this.constantLines));
+    sendModelUpdate(XYChartSerializer.CONSTANT_LINES, () -> ChartToJson.serializeConstantLines(this.constantLines));
     return this;
   }
 
@@ -75,7 +85,7 @@ abstract public class XYChart extends AbstractChart {
 
   public XYChart add(ConstantBand constantBand) {
     this.constantBands.add(constantBand);
-    sendModelUpdate(ChartToJson.serializeConstantBands(this.constantBands));
+    sendModelUpdate(XYChartSerializer.CONSTANT_BANDS, () -> ChartToJson.serializeConstantBands(this.constantBands));
     return this;
   }
 
@@ -90,7 +100,7 @@ abstract public class XYChart extends AbstractChart {
   public XYChart add(Text text) {
     text.setPlotType(this.getClass());
     this.texts.add(text);
-    sendModelUpdate(ChartToJson.serializeTexts(this.texts));
+    sendModelUpdate(XYChartSerializer.TEXTS, () -> ChartToJson.serializeTexts(this.texts));
     return this;
   }
 
@@ -104,7 +114,7 @@ abstract public class XYChart extends AbstractChart {
 
   public XYChart add(Rasters raster) {
     this.rasters.add(raster);
-    sendModelUpdate(ChartToJson.serializeRasters(this.rasters));
+    sendModelUpdate(XYChartSerializer.RASTERS, () -> ChartToJson.serializeRasters(this.rasters));
     return this;
   }
 
@@ -117,21 +127,23 @@ abstract public class XYChart extends AbstractChart {
   }
 
   public XYChart add(List items) {
-    for (Object o : items) {
-      if (o instanceof Rasters) {
-        add((Rasters) o);
-      } else if (o instanceof XYGraphics) {
-        add((XYGraphics) o);
-      } else if (o instanceof ConstantLine) {
-        add((ConstantLine) o);
-      } else if (o instanceof ConstantBand) {
-        add((ConstantBand) o);
-      } else if (o instanceof Text) {
-        add((Text) o);
-      } else {
-        super.add(items);
+    batch(() -> {
+      for (Object o : items) {
+        if (o instanceof Rasters) {
+          add((Rasters) o);
+        } else if (o instanceof XYGraphics) {
+          add((XYGraphics) o);
+        } else if (o instanceof ConstantLine) {
+          add((ConstantLine) o);
+        } else if (o instanceof ConstantBand) {
+          add((ConstantBand) o);
+        } else if (o instanceof Text) {
+          add((Text) o);
+        } else {
+          super.add(items);
+        }
       }
-    }
+    });
     return this;
   }
 
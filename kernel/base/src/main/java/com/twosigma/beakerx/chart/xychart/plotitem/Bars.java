@@ -91,6 +91,11 @@ public class Bars extends BasedXYGraphics {
   }
 
 
+  @Override
+  protected boolean hasPointProperties() {
+    return super.hasPointProperties() || widths != null || outlineColors != null;
+  }
+
   @Override
   protected EnumSet<Filter> getPossibleFilters() {
     return POSSIBLE_LOD_FILTERS;
@@ -135,6 +135,11 @@ public class Points extends XYGraphics {
     return this.outlineColors;
   }
 
+  @Override
+  protected boolean hasPointProperties() {
+    return super.hasPointProperties() || sizes != null || shapes != null || fills != null || outlineColors != null;
+  }
+
   @Override
   protected EnumSet<Filter> getPossibleFilters() {
     return POSSIBLE_LOD_FILTERS;
@@ -61,6 +61,11 @@ public class Stems extends BasedXYGraphics {
     return this.styles;
   }
 
+  @Override
+  protected boolean hasPointProperties() {
+    return super.hasPointProperties() || styles != null;
+  }
+
   @Override
   protected EnumSet<Filter> getPossibleFilters() {
     return POSSIBLE_LOD_FILTERS;
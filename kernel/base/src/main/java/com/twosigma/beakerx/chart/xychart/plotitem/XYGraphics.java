@@ -27,6 +27,9 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 
+import static com.twosigma.beakerx.util.Preconditions.checkState;
+import static java.util.Collections.singletonList;
+
 abstract public class XYGraphics extends Graphics {
   private List<Number> xs;
   private List<Number> ys = new ArrayList<>();
@@ -37,6 +40,8 @@ abstract public class XYGraphics extends Graphics {
   private Filter lodFilter;
   private Object toolTipBuilder;
   private List<String> toolTips;
+  private Integer maxPoints;
+  private transient List<PointsAppendListener> appendListeners = new ArrayList<>();
 
   protected List<Number> getBases() {
     return null;
@@ -70,17 +75,85 @@ abstract public class XYGraphics extends Graphics {
   }
 
   public void setX(List<Object> xs) {
-    this.xs = new ArrayList<>();
+    this.xs = toNumbers(xs);
+    reinit();
+  }
+
+  private static List<Number> toNumbers(List<Object> xs) {
+    List<Number> numbers = new ArrayList<>();
     if (xs != null) {
       for (Object x : xs) {
         if (x instanceof Number) {
-          this.xs.add((Number) x);
+          numbers.add((Number) x);
         } else {
-          this.xs.add(DateUtil.dateToLong(x));
+          numbers.add(DateUtil.dateToLong(x));
         }
       }
     }
-    reinit();
+    return numbers;
+  }
+
+  public void append(Object x, Number y) {
+    append(singletonList(x), singletonList(y));
+  }
+
+  /**
+   * Appends points to the end of the series. Charts which display this graphics send only the new points
+   * to the front end. When maxPoints is set the oldest points are dropped, so the series works as a rolling window.
+   */
+  public void append(List<Object> xs, List<Number> ys) {
+    checkState(xs.size() == ys.size(), "The number of x and y coordinates should be the same.");
+    checkState(!hasPointProperties(), getClass().getSimpleName() + " with per point properties does not support append.");
+    List<Number> newXs = toNumbers(xs);
+    List<Number> newYs = new ArrayList<>(ys);
+    getX().addAll(newXs);
+    this.ys.addAll(newYs);
+    trimToMaxPoints();
+    if (appendListeners != null) {
+      appendListeners.forEach(listener -> listener.pointsAppended(this, newXs, newYs));
+    }
+  }
+
+  public Integer getMaxPoints() {
+    return maxPoints;
+  }
+
+  public void setMaxPoints(Integer maxPoints) {
+    this.maxPoints = maxPoints;
+    trimToMaxPoints();
+  }
+
+  private void trimToMaxPoints() {
+    if (maxPoints != null && ys.size() > maxPoints) {
+      List<Number> xs = getX();
+      int excess = ys.size() - maxPoints;
+      ys.subList(0, excess).clear();
+      xs.subList(0, excess).clear();
+    }
+  }
+
+  /**
+   * A listener is registered once, also when the graphics is added to the same chart again.
+   */
+  public void addPointsAppendListener(PointsAppendListener listener) {
+    if (appendListeners == null) {
+      appendListeners = new ArrayList<>();
+    }
+    if (!appendListeners.contains(listener)) {
+      appendListeners.add(listener);
+    }
+  }
+
+  /**
+   * Per point properties (colors, tooltips, sizes, bases...) are lists parallel to x and y,
+   * they would get out of step with the coordinates when points are appended or dropped.
+   */
+  protected boolean hasPointProperties() {
+    return colors != null || toolTips != null || toolTipBuilder != null || getBases() != null;
+  }
+
+  public interface PointsAppendListener {
+    void pointsAppended(XYGraphics graphics, List<Number> xs, List<Number> ys);
   }
 
   public List<Number> getX() {
@@ -167,8 +167,10 @@ public abstract class BaseEvaluator implements Evaluator {
         addedPaths.add(Paths.get(path.getPath()));
       }
     });
-    classpathScanner.scan();
-    doReloadEvaluator();
+    if (!addedPaths.isEmpty()) {
+      classpathScanner.scan();
+      doReloadEvaluator();
+    }
     return addedPaths;
   }
 
@@ -16,11 +16,20 @@
 package com.twosigma.beakerx.evaluator;
 
 import com.twosigma.beakerx.BeakerxDirvers;
+import com.twosigma.beakerx.util.ClassPathIndex;
+
+import java.sql.Driver;
 
 public class ClasspathScannerImpl implements ClasspathScanner {
 
+  private int driverProviders = -1;
+
   @Override
   public void scan() {
-    BeakerxDirvers.loadDrivers();
+    int providers = ClassPathIndex.of(Thread.currentThread().getContextClassLoader()).serviceProviders(Driver.class.getName());
+    if (providers != driverProviders) {
+      driverProviders = providers;
+      BeakerxDirvers.loadDrivers();
+    }
   }
 }
@@ -44,6 +44,13 @@ public interface Evaluator {
 
   Logger logger = LoggerFactory.getLogger(Evaluator.class.getName());
 
+  /**
+   * Runs afterInit once the evaluator can evaluate code. Evaluators which initialize in the background run it there.
+   */
+  default void initialize(Runnable afterInit) {
+    afterInit.run();
+  }
+
   void updateEvaluatorParameters(final EvaluatorParameters kernelParameters);
 
   AutocompleteResult autocomplete(String code, int caretPosition);
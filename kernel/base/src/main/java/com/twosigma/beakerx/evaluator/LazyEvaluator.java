@@ -0,0 +1,221 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.evaluator;
+
+import com.twosigma.beakerx.BeakerXClient;
+import com.twosigma.beakerx.TryResult;
+import com.twosigma.beakerx.autocomplete.AutocompleteResult;
+import com.twosigma.beakerx.inspect.InspectResult;
+import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
+import com.twosigma.beakerx.kernel.AddImportStatus;
+import com.twosigma.beakerx.kernel.Classpath;
+import com.twosigma.beakerx.kernel.EvaluatorParameters;
+import com.twosigma.beakerx.kernel.ExecutionOptions;
+import com.twosigma.beakerx.kernel.GroupName;
+import com.twosigma.beakerx.kernel.ImportPath;
+import com.twosigma.beakerx.kernel.Imports;
+import com.twosigma.beakerx.kernel.PathToJar;
+import com.twosigma.beakerx.kernel.StartupReport;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Creates the real evaluator on a background thread, so the kernel can bind its sockets and answer
+ * kernel_info right away. Calls wait until the evaluator and the after init action are done,
+ * except calls made by the after init action itself.
+ */
+public class LazyEvaluator implements Evaluator {
+
+  private final Supplier<Evaluator> factory;
+  private final CompletableFuture<Evaluator> ready = new CompletableFuture<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile Evaluator created;
+  private volatile Thread initThread;
+
+  public LazyEvaluator(Supplier<Evaluator> factory) {
+    this.factory = factory;
+  }
+
+  @Override
+  public void initialize(Runnable afterInit) {
+    if (started.compareAndSet(false, true)) {
+      Thread thread = new Thread(() -> init(afterInit), "evaluator-init");
+      thread.setDaemon(true);
+      initThread = thread;
+      thread.start();
+    }
+  }
+
+  private void init(Runnable afterInit) {
+    try {
+      created = factory.get();
+      StartupReport.phase(StartupReport.EVALUATOR_CREATED);
+      afterInit.run();
+      StartupReport.phase(StartupReport.EVALUATOR_READY);
+      StartupReport.log();
+      ready.complete(created);
+    } catch (Throwable t) {
+      logger.error("Evaluator initialization failed", t);
+      ready.completeExceptionally(t);
+    }
+  }
+
+  public boolean isReady() {
+    return ready.isDone() && !ready.isCompletedExceptionally();
+  }
+
+  private Evaluator evaluator() {
+    if (Thread.currentThread() == initThread && created != null) {
+      return created;
+    }
+    initialize(() -> {
+    });
+    try {
+      return ready.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Evaluator initialization failed", e.getCause());
+    }
+  }
+
+  @Override
+  public void updateEvaluatorParameters(EvaluatorParameters kernelParameters) {
+    evaluator().updateEvaluatorParameters(kernelParameters);
+  }
+
+  @Override
+  public AutocompleteResult autocomplete(String code, int caretPosition) {
+    return evaluator().autocomplete(code, caretPosition);
+  }
+
+  @Override
+  public InspectResult inspect(String code, int caretPosition) {
+    return evaluator().inspect(code, caretPosition);
+  }
+
+  @Override
+  public void killAllThreads() {
+    if (isReady()) {
+      evaluator().killAllThreads();
+    }
+  }
+
+  @Override
+  public void cancelExecution(GroupName groupName) {
+    if (isReady()) {
+      evaluator().cancelExecution(groupName);
+    }
+  }
+
+  @Override
+  public TryResult evaluate(SimpleEvaluationObject seo, String code) {
+    return evaluator().evaluate(seo, code);
+  }
+
+  @Override
+  public TryResult evaluate(SimpleEvaluationObject seo, String code, ExecutionOptions executionOptions) {
+    return evaluator().evaluate(seo, code, executionOptions);
+  }
+
+  @Override
+  public void exit() {
+    if (started.get()) {
+      evaluator().exit();
+    }
+  }
+
+  @Override
+  public void resetEnvironment() {
+    evaluator().resetEnvironment();
+  }
+
+  @Override
+  public List<Path> addJarsToClasspath(List<PathToJar> paths) {
+    return evaluator().addJarsToClasspath(paths);
+  }
+
+  @Override
+  public Classpath getClasspath() {
+    return evaluator().getClasspath();
+  }
+
+  @Override
+  public Imports getImports() {
+    return evaluator().getImports();
+  }
+
+  @Override
+  public AddImportStatus addImport(ImportPath anImport) {
+    return evaluator().addImport(anImport);
+  }
+
+  @Override
+  public void removeImport(ImportPath anImport) {
+    evaluator().removeImport(anImport);
+  }
+
+  @Override
+  public Path getTempFolder() {
+    return evaluator().getTempFolder();
+  }
+
+  @Override
+  public Class<?> loadClass(String clazzName) throws ClassNotFoundException {
+    return evaluator().loadClass(clazzName);
+  }
+
+  @Override
+  public boolean checkIfClassExistsInClassloader(String clazzName) {
+    return evaluator().checkIfClassExistsInClassloader(clazzName);
+  }
+
+  @Override
+  public String getOutDir() {
+    return evaluator().getOutDir();
+  }
+
+  @Override
+  public void registerCancelHook(Hook hook) {
+    evaluator().registerCancelHook(hook);
+  }
+
+  @Override
+  public BeakerXClient getBeakerX() {
+    return evaluator().getBeakerX();
+  }
+
+  @Override
+  public void putEvaluationInToBackground() {
+    evaluator().putEvaluationInToBackground();
+  }
+
+  @Override
+  public void startEvaluation() {
+    evaluator().startEvaluation();
+  }
+
+  @Override
+  public void endEvaluation() {
+    evaluator().endEvaluation();
+  }
+}
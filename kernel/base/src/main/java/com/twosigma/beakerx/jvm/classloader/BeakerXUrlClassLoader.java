@@ -16,6 +16,7 @@
 package com.twosigma.beakerx.jvm.classloader;
 
 import com.twosigma.beakerx.kernel.PathToJar;
+import com.twosigma.beakerx.util.ClassPathIndex;
 
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -40,10 +41,11 @@ public class BeakerXUrlClassLoader extends URLClassLoader {
 
   public void addJar(URL url) {
     super.addURL(checkNotNull(url));
+    ClassPathIndex.jarAdded(this, url);
   }
 
   public void addJar(PathToJar pathToJar) {
-    super.addURL(checkNotNull(pathToJar.getUrl()));
+    addJar(pathToJar.getUrl());
   }
 
   public void addPathToJars(List<PathToJar> paths) {
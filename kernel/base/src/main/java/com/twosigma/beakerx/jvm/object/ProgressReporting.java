@@ -17,20 +17,117 @@ package com.twosigma.beakerx.jvm.object;
 
 import com.twosigma.beakerx.widget.IntProgress;
 
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Progress bar of one cell. Updates are coalesced: the first one is sent at once, later ones at most once per
+ * window, so a progress update in an inner loop costs a field write and no comm message.
+ */
 public class ProgressReporting {
 
+  public static final long WINDOW_MILLIS = 100;
+
+  private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "progress-reporting");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final long windowMillis;
+  private final LongSupplier clock;
+  private final Supplier<String> scopeMessage = () -> this.scope.describe();
+  private final IntSupplier scopeProgress = () -> this.scope.percent();
+
   private IntProgress progressBar;
+  private ProgressScope scope;
+  private Supplier<String> pendingMessage;
+  private IntSupplier pendingProgress;
+  private long lastSent;
+  private ScheduledFuture<?> flushTask;
+  private boolean closed;
+
+  public ProgressReporting() {
+    this(WINDOW_MILLIS, System::currentTimeMillis);
+  }
+
+  ProgressReporting(long windowMillis, LongSupplier clock) {
+    this.windowMillis = windowMillis;
+    this.clock = clock;
+  }
 
   public void structuredUpdate(String message, int progress) {
+    update(() -> message, () -> progress);
+  }
+
+  /**
+   * Starts a new top level scope, the bar shows its share done, throughput and ETA.
+   */
+  public synchronized ProgressScope scope(String name, long total) {
+    scope = new ProgressScope(this, null, name, total);
+    changed();
+    return scope;
+  }
+
+  synchronized void changed() {
+    update(scopeMessage, scopeProgress);
+  }
+
+  long now() {
+    return clock.getAsLong();
+  }
+
+  private synchronized void update(Supplier<String> message, IntSupplier progress) {
+    if (closed) {
+      return;
+    }
+    pendingMessage = message;
+    pendingProgress = progress;
+    long elapsed = now() - lastSent;
+    if (progressBar == null || elapsed >= windowMillis) {
+      flush();
+    } else if (flushTask == null) {
+      flushTask = scheduler.schedule(this::flushPending, windowMillis - elapsed, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private synchronized void flushPending() {
+    flushTask = null;
+    if (!closed && pendingMessage != null) {
+      flush();
+    }
+  }
+
+  private void flush() {
     if (progressBar == null) {
       progressBar = new IntProgress();
       progressBar.display();
     }
-    progressBar.setValue(progress);
-    progressBar.setDescription(message);
+    int progress = pendingProgress.getAsInt();
+    String message = pendingMessage.get();
+    if (!Objects.equals(progressBar.getValue(), progress)) {
+      progressBar.setValue(progress);
+    }
+    if (!Objects.equals(progressBar.getDescription(), message)) {
+      progressBar.setDescription(message);
+    }
+    pendingMessage = null;
+    pendingProgress = null;
+    lastSent = now();
   }
 
-  public void close() {
+  public synchronized void close() {
+    closed = true;
+    if (flushTask != null) {
+      flushTask.cancel(false);
+      flushTask = null;
+    }
     if (progressBar != null) {
       progressBar.close();
       progressBar = null;
@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.jvm.object;
+
+/**
+ * Progress of one stage of work, counted in items out of total. A stage opened with {@link #stage} covers
+ * the next item of its parent, the parent advances by one when the stage is closed.
+ */
+public class ProgressScope implements AutoCloseable {
+
+  private final ProgressReporting reporting;
+  private final ProgressScope parent;
+  private final String name;
+  private final long total;
+  private final long startMillis;
+  private long done;
+  private ProgressScope stage;
+  private boolean closed;
+
+  ProgressScope(ProgressReporting reporting, ProgressScope parent, String name, long total) {
+    this.reporting = reporting;
+    this.parent = parent;
+    this.name = name;
+    this.total = total;
+    this.startMillis = reporting.now();
+  }
+
+  public void update(long done) {
+    synchronized (reporting) {
+      this.done = Math.max(0, Math.min(done, total));
+      reporting.changed();
+    }
+  }
+
+  public void increment() {
+    increment(1);
+  }
+
+  public void increment(long count) {
+    synchronized (reporting) {
+      update(done + count);
+    }
+  }
+
+  public ProgressScope stage(String name, long total) {
+    synchronized (reporting) {
+      if (stage != null) {
+        stage.close();
+      }
+      stage = new ProgressScope(reporting, this, name, total);
+      reporting.changed();
+      return stage;
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (reporting) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      done = total;
+      if (stage != null) {
+        stage.close();
+      }
+      if (parent != null && parent.stage == this) {
+        parent.stage = null;
+        parent.done = Math.min(parent.done + 1, parent.total);
+      }
+      reporting.changed();
+    }
+  }
+
+  public long getDone() {
+    synchronized (reporting) {
+      return done;
+    }
+  }
+
+  double fraction() {
+    if (total <= 0) {
+      return closed ? 1 : 0;
+    }
+    double current = done + (stage != null ? stage.fraction() : 0);
+    return Math.min(1, current / total);
+  }
+
+  int percent() {
+    return (int) (fraction() * 100);
+  }
+
+  /**
+   * e.g. "load 3/10 > parse 40/100, 250.0 items/s, ETA 00:12", the rate is the one of the innermost stage.
+   */
+  String describe() {
+    long now = reporting.now();
+    StringBuilder description = new StringBuilder();
+    ProgressScope innermost = this;
+    for (ProgressScope scope = this; scope != null; scope = scope.stage) {
+      if (scope != this) {
+        description.append(" > ");
+      }
+      description.append(scope.name).append(' ').append(scope.done).append('/').append(scope.total);
+      innermost = scope;
+    }
+    long elapsed = now - innermost.startMillis;
+    if (elapsed > 0 && innermost.done > 0) {
+      description.append(String.format(", %.1f items/s", innermost.done * 1000.0 / elapsed));
+    }
+    double fraction = fraction();
+    long rootElapsed = now - startMillis;
+    if (fraction > 0 && fraction < 1 && rootElapsed > 0) {
+      long etaSeconds = (long) (rootElapsed * (1 - fraction) / fraction / 1000);
+      description.append(String.format(", ETA %02d:%02d", etaSeconds / 60, etaSeconds % 60));
+    }
+    return description.toString();
+  }
+}
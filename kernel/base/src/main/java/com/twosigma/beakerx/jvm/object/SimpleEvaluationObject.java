@@ -98,10 +98,18 @@ public class SimpleEvaluationObject {
   }
 
   public void structuredUpdate(String message, int progress) {
+    getProgressReporting().structuredUpdate(message, progress);
+  }
+
+  public ProgressScope progress(String name, long total) {
+    return getProgressReporting().scope(name, total);
+  }
+
+  private ProgressReporting getProgressReporting() {
     if (progressReporting == null) {
       progressReporting = new ProgressReporting();
     }
-    progressReporting.structuredUpdate(message, progress);
+    return progressReporting;
   }
 
   public void noResult() {
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.twosigma.beakerx.kernel.comm.BinaryState;
 import com.twosigma.beakerx.util.Images;
 
 public class BufferedImageSerializer extends JsonSerializer<BufferedImage> {
@@ -33,7 +34,9 @@ public class BufferedImageSerializer extends JsonSerializer<BufferedImage> {
       byte [] data = Images.encode(v);
       jgen.writeStartObject();
       jgen.writeStringField("type",  "ImageIcon");
-      jgen.writeObjectField("imageData", data);
+      if (!BinaryState.writeBinaryField(jgen, "imageData", data)) {
+        jgen.writeObjectField("imageData", data);
+      }
       jgen.writeNumberField("width", v.getWidth());
       jgen.writeNumberField("height", v.getHeight());
       jgen.writeEndObject();
@@ -0,0 +1,205 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.twosigma.beakerx.util.Preconditions.checkNotNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs asynchronous cells of one kernel, at most maxConcurrency at a time. The queued job with the highest
+ * priority whose dependency has ended starts first, jobs with the same priority start in submission order.
+ */
+public class AsyncScheduler {
+
+  public static final String CONCURRENCY_PROPERTY = "beakerx.async.concurrency";
+  public static final int DEFAULT_PRIORITY = 0;
+
+  private static final Logger logger = LoggerFactory.getLogger(AsyncScheduler.class);
+
+  private final ExecutorService executorService;
+  private final List<Job> queued = new ArrayList<>();
+  private final List<Job> running = new ArrayList<>();
+  private int maxConcurrency;
+  private long sequence = 0;
+
+  public AsyncScheduler() {
+    this(defaultConcurrency());
+  }
+
+  public AsyncScheduler(int maxConcurrency) {
+    this.maxConcurrency = checkConcurrency(maxConcurrency);
+    AtomicInteger count = new AtomicInteger();
+    this.executorService = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "beakerx-async-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public synchronized void submit(Job job) {
+    job.sequence = sequence++;
+    queued.add(job);
+    dispatch();
+    if (queued.contains(job)) {
+      runQuietly(job.task::queued);
+    }
+  }
+
+  /**
+   * Drops the job of the group when it is still waiting, a running job has to be cancelled through the evaluator.
+   */
+  public synchronized boolean cancel(GroupName groupName) {
+    Optional<Job> job = queued.stream().filter(it -> it.groupName.equals(groupName)).findFirst();
+    if (!job.isPresent()) {
+      return false;
+    }
+    queued.remove(job.get());
+    runQuietly(job.get().task::cancelled);
+    dispatch();
+    return true;
+  }
+
+  public synchronized void setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = checkConcurrency(maxConcurrency);
+    dispatch();
+  }
+
+  public synchronized int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public synchronized List<GroupName> getQueued() {
+    return queued.stream().map(job -> job.groupName).collect(toList());
+  }
+
+  public synchronized List<GroupName> getRunning() {
+    return running.stream().map(job -> job.groupName).collect(toList());
+  }
+
+  private void dispatch() {
+    Optional<Job> next;
+    while (running.size() < maxConcurrency && (next = nextEligible()).isPresent()) {
+      Job job = next.get();
+      queued.remove(job);
+      running.add(job);
+      executorService.submit(() -> execute(job));
+    }
+  }
+
+  private Optional<Job> nextEligible() {
+    Job best = null;
+    for (Job job : queued) {
+      if (isEligible(job) && (best == null || job.priority > best.priority)) {
+        best = job;
+      }
+    }
+    return Optional.ofNullable(best);
+  }
+
+  private boolean isEligible(Job job) {
+    if (job.after == null) {
+      return true;
+    }
+    return running.stream().noneMatch(it -> job.after.equals(it.name)) &&
+            queued.stream().noneMatch(it -> it.sequence < job.sequence && job.after.equals(it.name));
+  }
+
+  private void execute(Job job) {
+    try {
+      runQuietly(job.task::run);
+    } finally {
+      finished(job);
+    }
+  }
+
+  private synchronized void finished(Job job) {
+    running.remove(job);
+    dispatch();
+  }
+
+  private void runQuietly(Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (Exception e) {
+      logger.error("Asynchronous job failed", e);
+    }
+  }
+
+  private static int checkConcurrency(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("Concurrency limit has to be greater than 0, was " + maxConcurrency);
+    }
+    return maxConcurrency;
+  }
+
+  private static int defaultConcurrency() {
+    String property = System.getProperty(CONCURRENCY_PROPERTY);
+    if (property != null) {
+      try {
+        return Integer.parseInt(property.trim());
+      } catch (NumberFormatException e) {
+        logger.warn("Wrong value of " + CONCURRENCY_PROPERTY + ": " + property);
+      }
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  public interface AsyncTask {
+    /**
+     * Called on submit when the job has to wait, before it can be started.
+     */
+    void queued();
+
+    void run();
+
+    void cancelled();
+  }
+
+  public static class Job {
+    private final GroupName groupName;
+    private final String name;
+    private final String after;
+    private final int priority;
+    private final AsyncTask task;
+    private long sequence;
+
+    /**
+     * @param name  optional name other jobs can wait for
+     * @param after optional name of the job which has to end before this one starts
+     */
+    public Job(GroupName groupName, String name, String after, int priority, AsyncTask task) {
+      this.groupName = checkNotNull(groupName);
+      this.name = name;
+      this.after = after;
+      this.priority = priority;
+      this.task = checkNotNull(task);
+    }
+
+    public GroupName getGroupName() {
+      return groupName;
+    }
+  }
+}
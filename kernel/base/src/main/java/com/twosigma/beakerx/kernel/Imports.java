@@ -15,8 +15,7 @@
  */
 package com.twosigma.beakerx.kernel;
 
-import com.twosigma.beakerx.util.ClassPath;
-import java.io.IOException;
+import com.twosigma.beakerx.util.ClassPathIndex;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -168,11 +167,7 @@ public class Imports {
   }
 
   private boolean isValidImportWithWildcard(String importToCheck, ClassLoader classLoader) {
-    try {
-      String packageWithoutWildcard = importToCheck.substring(0, importToCheck.lastIndexOf("."));
-      return ClassPath.from(classLoader).packageExists(packageWithoutWildcard);
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
+    String packageWithoutWildcard = importToCheck.substring(0, importToCheck.lastIndexOf("."));
+    return ClassPathIndex.of(classLoader).packageExists(packageWithoutWildcard);
   }
 }
@@ -72,6 +72,7 @@ public abstract class Kernel implements KernelFunctionality {
   private BeakerXServer beakerXServer;
   private BeakerXJson beakerXJson;
   private MagicCommandConfiguration magicCommandConfiguration;
+  private AsyncScheduler asyncScheduler;
 
   public Kernel(final String sessionId,
                 final Evaluator evaluator,
@@ -90,12 +91,13 @@ public abstract class Kernel implements KernelFunctionality {
     this.handlers = new KernelHandlers(this, getCommOpenHandler(this), getKernelInfoHandler(this));
     this.magicKernels = new HashMap<>();
     this.commKernelMapping = new HashMap<>();
+    this.asyncScheduler = new AsyncScheduler();
     this.magicCommandConfiguration = configuration.getMagicCommandConfiguration();
     createMagicCommands();
     DisplayerDataMapper.init();
     configureSignalHandler();
     initJvmRepr();
-    configuration.getRuntimetools().configRuntimeJars(this);
+    this.evaluator.initialize(() -> configuration.getRuntimetools().configRuntimeJars(this));
   }
 
   @Override
@@ -122,6 +124,8 @@ public abstract class Kernel implements KernelFunctionality {
     logger.debug("Jupyter kernel starting.");
     this.kernelSockets = kernelSocketsFactory.create(this, this::closeComms);
     this.kernelSockets.start();
+    StartupReport.phase(StartupReport.SOCKETS_BOUND);
+    KernelMetrics.registerMBean();
     try {
       this.kernelSockets.join();
     } catch (InterruptedException e) {
@@ -165,7 +169,14 @@ public abstract class Kernel implements KernelFunctionality {
 
   @Override
   public void cancelExecution(GroupName groupName) {
-    evaluator.cancelExecution(groupName);
+    if (!asyncScheduler.cancel(groupName)) {
+      evaluator.cancelExecution(groupName);
+    }
+  }
+
+  @Override
+  public AsyncScheduler getAsyncScheduler() {
+    return asyncScheduler;
   }
 
   public boolean isCommPresent(String hash) {
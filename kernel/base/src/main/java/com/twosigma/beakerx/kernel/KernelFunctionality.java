@@ -61,6 +61,8 @@ public interface KernelFunctionality {
 
   void cancelExecution(GroupName groupName);
 
+  AsyncScheduler getAsyncScheduler();
+
   void killAllThreads();
 
   Handler<Message> getHandler(JupyterMessages type);
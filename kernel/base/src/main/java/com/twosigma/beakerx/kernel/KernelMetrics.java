@@ -0,0 +1,243 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timings of the stages a message goes through and counts of published IOPub messages. Recording is off
+ * unless enabled with the beakerx.metrics property, %perf on or the JMX bean, when off {@link #start()} costs one
+ * volatile read and nothing is recorded.
+ */
+public class KernelMetrics {
+
+  public static final String ENABLED_PROPERTY = "beakerx.metrics";
+  public static final String OBJECT_NAME = "com.twosigma.beakerx:type=KernelMetrics";
+
+  public enum Stage {
+    PARSE, MAGIC, COMPILE, EXECUTE, SERIALIZE, ENCODE, HMAC, SEND
+  }
+
+  private static final Logger logger = LoggerFactory.getLogger(KernelMetrics.class);
+
+  private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+  private static final Histogram[] stages = new Histogram[Stage.values().length];
+  private static final Map<String, LongAdder> iopubMessages = new ConcurrentHashMap<>();
+  private static final Map<String, LongAdder> iopubBytes = new ConcurrentHashMap<>();
+
+  static {
+    for (int i = 0; i < stages.length; i++) {
+      stages[i] = new Histogram();
+    }
+  }
+
+  private KernelMetrics() {
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    KernelMetrics.enabled = enabled;
+  }
+
+  /**
+   * @return start time to pass to {@link #record}, 0 when metrics are off
+   */
+  public static long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  public static void record(Stage stage, long start) {
+    if (start != 0) {
+      stages[stage.ordinal()].add(System.nanoTime() - start);
+    }
+  }
+
+  public static void iopub(String messageType, long bytes) {
+    if (enabled) {
+      iopubMessages.computeIfAbsent(messageType, type -> new LongAdder()).increment();
+      iopubBytes.computeIfAbsent(messageType, type -> new LongAdder()).add(bytes);
+    }
+  }
+
+  public static Histogram getHistogram(Stage stage) {
+    return stages[stage.ordinal()];
+  }
+
+  public static Map<String, Long> getIopubMessages() {
+    return snapshot(iopubMessages);
+  }
+
+  public static Map<String, Long> getIopubBytes() {
+    return snapshot(iopubBytes);
+  }
+
+  public static void reset() {
+    for (Histogram histogram : stages) {
+      histogram.reset();
+    }
+    iopubMessages.clear();
+    iopubBytes.clear();
+  }
+
+  public static String report() {
+    StringBuilder report = new StringBuilder(String.format("%-10s %8s %12s %12s %12s %12s",
+            "stage", "count", "mean ms", "p50 ms", "p99 ms", "max ms"));
+    for (Stage stage : Stage.values()) {
+      Histogram histogram = getHistogram(stage);
+      if (histogram.getCount() > 0) {
+        report.append(String.format("\n%-10s %8d %12.3f %12.3f %12.3f %12.3f",
+                stage.name().toLowerCase(),
+                histogram.getCount(),
+                millis(histogram.getMean()),
+                millis(histogram.percentile(0.5)),
+                millis(histogram.percentile(0.99)),
+                millis(histogram.getMax())));
+      }
+    }
+    Map<String, Long> bytes = getIopubBytes();
+    getIopubMessages().forEach((type, count) ->
+            report.append(String.format("\niopub %-20s %8d messages %12d bytes", type, count, bytes.getOrDefault(type, 0L))));
+    return report.toString();
+  }
+
+  public static void registerMBean() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(new KernelMetricsBean(), new ObjectName(OBJECT_NAME));
+    } catch (InstanceAlreadyExistsException e) {
+      logger.debug(OBJECT_NAME + " is already registered");
+    } catch (Exception e) {
+      logger.warn("Could not register " + OBJECT_NAME, e);
+    }
+  }
+
+  private static double millis(double nanos) {
+    return nanos / 1_000_000;
+  }
+
+  private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+    Map<String, Long> result = new TreeMap<>();
+    counters.forEach((type, counter) -> result.put(type, counter.sum()));
+    return result;
+  }
+
+  static class KernelMetricsBean implements KernelMetricsMXBean {
+
+    @Override
+    public boolean isEnabled() {
+      return KernelMetrics.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+      KernelMetrics.setEnabled(enabled);
+    }
+
+    @Override
+    public void reset() {
+      KernelMetrics.reset();
+    }
+
+    @Override
+    public String getReport() {
+      return report();
+    }
+
+    @Override
+    public Map<String, Double> getStageMeanMillis() {
+      Map<String, Double> result = new TreeMap<>();
+      for (Stage stage : Stage.values()) {
+        result.put(stage.name().toLowerCase(), millis(getHistogram(stage).getMean()));
+      }
+      return result;
+    }
+
+    @Override
+    public Map<String, Long> getIopubMessages() {
+      return KernelMetrics.getIopubMessages();
+    }
+
+    @Override
+    public Map<String, Long> getIopubBytes() {
+      return KernelMetrics.getIopubBytes();
+    }
+  }
+
+  /**
+   * Durations in nanoseconds counted in power of two buckets, percentiles are the upper bound of their bucket.
+   */
+  public static class Histogram {
+    private final AtomicLongArray buckets = new AtomicLongArray(64);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void add(long nanos) {
+      long value = Math.max(0, nanos);
+      buckets.incrementAndGet(63 - Long.numberOfLeadingZeros(value | 1));
+      count.increment();
+      sum.add(value);
+      max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+
+    public double getMean() {
+      long total = count.sum();
+      return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    public long getMax() {
+      return max.get();
+    }
+
+    public long percentile(double fraction) {
+      long total = count.sum();
+      long seen = 0;
+      for (int i = 0; i < buckets.length(); i++) {
+        seen += buckets.get(i);
+        if (total > 0 && seen >= Math.ceil(total * fraction)) {
+          return Math.min(max.get(), i == 63 ? Long.MAX_VALUE : (2L << i) - 1);
+        }
+      }
+      return max.get();
+    }
+
+    void reset() {
+      for (int i = 0; i < buckets.length(); i++) {
+        buckets.set(i, 0);
+      }
+      count.reset();
+      sum.reset();
+      max.set(0);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link KernelMetrics}, registered as {@value KernelMetrics#OBJECT_NAME}.
+ */
+public interface KernelMetricsMXBean {
+
+  boolean isEnabled();
+
+  void setEnabled(boolean enabled);
+
+  void reset();
+
+  String getReport();
+
+  Map<String, Double> getStageMeanMillis();
+
+  Map<String, Long> getIopubMessages();
+
+  Map<String, Long> getIopubBytes();
+}
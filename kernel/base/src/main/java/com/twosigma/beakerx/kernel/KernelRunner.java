@@ -22,6 +22,7 @@ public class KernelRunner {
   public static void run(KernelFactory kernelFactory) {
     BeakerStdInOutErrHandler.init();
     KernelFunctionality kernel = kernelFactory.createKernel();
+    StartupReport.phase(StartupReport.KERNEL_CREATED);
     kernel.run();
     BeakerStdInOutErrHandler.fini();
   }
@@ -39,17 +39,24 @@ public class PlainCode extends CodeFrame {
   public void executeFrame(Code code, KernelFunctionality kernel, Message message, int executionCount) {
     SimpleEvaluationObject seo = createSimpleEvaluationObject(this.plainCode, kernel, message, executionCount);
     seo.noResult();
-    TryResult either = kernel.executeCode(this.plainCode, seo);
+    TryResult either = execute(kernel, seo);
     handleResult(seo, either);
   }
 
   @Override
   public void executeLastFrame(Code code, KernelFunctionality kernel, Message message, int executionCount) {
     SimpleEvaluationObject seo = createSimpleEvaluationObject(this.plainCode, kernel, message, executionCount);
-    TryResult either = kernel.executeCode(this.plainCode, seo);
+    TryResult either = execute(kernel, seo);
     handleResult(seo, either);
   }
 
+  private TryResult execute(KernelFunctionality kernel, SimpleEvaluationObject seo) {
+    long start = KernelMetrics.start();
+    TryResult either = kernel.executeCode(this.plainCode, seo);
+    KernelMetrics.record(KernelMetrics.Stage.EXECUTE, start);
+    return either;
+  }
+
   @Override
   public Optional<MagicCommandOutcomeItem> getError() {
     return Optional.empty();
@@ -0,0 +1,52 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Milliseconds since JVM start at which each kernel startup phase finished.
+ */
+public class StartupReport {
+
+  public static final String KERNEL_CREATED = "kernel created";
+  public static final String SOCKETS_BOUND = "sockets bound";
+  public static final String EVALUATOR_CREATED = "evaluator created";
+  public static final String EVALUATOR_READY = "evaluator ready";
+
+  private static final Logger logger = LoggerFactory.getLogger(StartupReport.class.getName());
+  private static final Map<String, Long> phases = new LinkedHashMap<>();
+
+  public static synchronized void phase(String name) {
+    phases.putIfAbsent(name, ManagementFactory.getRuntimeMXBean().getUptime());
+  }
+
+  public static synchronized String report() {
+    return "Kernel startup: " + phases.entrySet().stream()
+            .map(phase -> phase.getKey() + " " + phase.getValue() + " ms")
+            .collect(Collectors.joining(", "));
+  }
+
+  public static void log() {
+    logger.info(report());
+  }
+}
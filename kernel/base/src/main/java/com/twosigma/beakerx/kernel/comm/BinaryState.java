@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel.comm;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Widget state whose binary fields travel as Jupyter message buffers instead of Base64 strings. While the state
+ * is written into a message, serializers hand their bytes over with {@link #writeBinaryField}, the field is written
+ * as null and its path is added to buffer_paths, where the front end puts the buffer back.
+ */
+@JsonSerialize(using = BinaryState.BinaryStateSerializer.class)
+public class BinaryState extends LinkedHashMap<Object, Object> {
+
+  private static final ThreadLocal<BinaryState> WRITING = new ThreadLocal<>();
+
+  private final List<byte[]> buffers = new ArrayList<>();
+  private final ArrayList<List<Object>> bufferPaths = new ArrayList<>();
+  private transient JsonStreamContext root;
+
+  public BinaryState(Map<?, ?> state) {
+    super(state);
+  }
+
+  /**
+   * Filled when the state is serialized, the same list has to be set as the buffers of the message.
+   */
+  public List<byte[]> getBuffers() {
+    return buffers;
+  }
+
+  public ArrayList<List<Object>> getBufferPaths() {
+    return bufferPaths;
+  }
+
+  /**
+   * @return false when no binary state is being written by this generator, the caller writes the field itself
+   */
+  public static boolean writeBinaryField(JsonGenerator jgen, String fieldName, byte[] data) throws IOException {
+    BinaryState state = WRITING.get();
+    if (state == null) {
+      return false;
+    }
+    LinkedList<Object> path = new LinkedList<>();
+    path.add(fieldName);
+    JsonStreamContext context = jgen.getOutputContext();
+    while (context != state.root) {
+      JsonStreamContext parent = context.getParent();
+      if (parent == null) {
+        return false;
+      }
+      path.addFirst(parent.inArray() ? parent.getCurrentIndex() : parent.getCurrentName());
+      context = parent;
+    }
+    state.bufferPaths.add(new ArrayList<>(path));
+    state.buffers.add(data);
+    jgen.writeNullField(fieldName);
+    return true;
+  }
+
+  public static class BinaryStateSerializer extends JsonSerializer<BinaryState> {
+
+    @Override
+    public void serialize(BinaryState value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+      value.buffers.clear();
+      value.bufferPaths.clear();
+      BinaryState previous = WRITING.get();
+      WRITING.set(value);
+      try {
+        jgen.writeStartObject();
+        value.root = jgen.getOutputContext();
+        boolean writeNulls = provider.isEnabled(SerializationFeature.WRITE_NULL_MAP_VALUES);
+        for (Map.Entry<Object, Object> entry : value.entrySet()) {
+          if (entry.getValue() != null || writeNulls) {
+            jgen.writeFieldName(String.valueOf(entry.getKey()));
+            provider.defaultSerializeValue(entry.getValue(), jgen);
+          }
+        }
+        jgen.writeEndObject();
+      } finally {
+        value.root = null;
+        WRITING.set(previous);
+      }
+    }
+  }
+}
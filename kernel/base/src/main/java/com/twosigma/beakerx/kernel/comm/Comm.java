@@ -29,6 +29,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -159,12 +160,17 @@ public class Comm {
     map.put(COMM_ID, getCommId());
     map.put(TARGET_NAME, getTargetName());
 
-    HashMap<String, Serializable> state = new HashMap<>();
-    state.put(STATE, data.getData());
+    HashMap<String, Serializable> state = new LinkedHashMap<>();
     state.put(METHOD, (Serializable) data.getData().get(METHOD));
     if (!buffer.isEmpty()) {
+      state.put(STATE, data.getData());
       state.put(BUFFER_PATHS, buffer.getBufferPaths());
       message.setBuffers(buffer.getBuffers());
+    } else {
+      BinaryState binaryState = new BinaryState(data.getData());
+      state.put(STATE, binaryState);
+      state.put(BUFFER_PATHS, binaryState.getBufferPaths());
+      message.setBuffers(binaryState.getBuffers());
     }
     map.put(DATA, state);
     map.put(METADATA, metadata);
@@ -280,23 +286,31 @@ public class Comm {
   }
 
   public Message createUpdateMessage(String propertyName, Object value, Message parent) {
-    HashMap<String, Serializable> content = new HashMap<>();
-    content.put(METHOD, UPDATE);
-    HashMap<Object, Object> state = new HashMap<>();
-    state.put(propertyName, value);
-    content.put(STATE, state);
-    content.put(BUFFER_PATHS, new HashMap<>());
-    return this.createMessage(COMM_MSG, Buffer.EMPTY, new Comm.Data(content), parent);
+    BinaryState state = updateState(propertyName, value);
+    Message message = this.createMessage(COMM_MSG, Buffer.EMPTY, new Comm.Data(updateContent(state)), parent);
+    message.setBuffers(state.getBuffers());
+    return message;
   }
 
   public Message createUpdateMessage(String propertyName, Object value) {
-    HashMap<String, Serializable> content = new HashMap<>();
-    content.put(METHOD, UPDATE);
+    BinaryState state = updateState(propertyName, value);
+    Message message = this.createMessage(COMM_MSG, Buffer.EMPTY, new Comm.Data(updateContent(state)));
+    message.setBuffers(state.getBuffers());
+    return message;
+  }
+
+  private static BinaryState updateState(String propertyName, Object value) {
     HashMap<Object, Object> state = new HashMap<>();
     state.put(propertyName, value);
+    return new BinaryState(state);
+  }
+
+  private static HashMap<String, Serializable> updateContent(BinaryState state) {
+    HashMap<String, Serializable> content = new LinkedHashMap<>();
+    content.put(METHOD, UPDATE);
     content.put(STATE, state);
-    content.put(BUFFER_PATHS, new HashMap<>());
-    return this.createMessage(COMM_MSG, Buffer.EMPTY, new Comm.Data(content));
+    content.put(BUFFER_PATHS, state.getBufferPaths());
+    return content;
   }
 
   public void handleMsg(Message parentMessage) {
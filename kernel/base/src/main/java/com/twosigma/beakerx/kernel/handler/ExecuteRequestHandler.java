@@ -19,6 +19,7 @@ import com.twosigma.beakerx.handler.KernelHandler;
 import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
 import com.twosigma.beakerx.kernel.Code;
 import com.twosigma.beakerx.kernel.KernelFunctionality;
+import com.twosigma.beakerx.kernel.KernelMetrics;
 import com.twosigma.beakerx.kernel.magic.command.CodeFactory;
 import com.twosigma.beakerx.message.Header;
 import com.twosigma.beakerx.message.Message;
@@ -59,7 +60,9 @@ public class ExecuteRequestHandler extends KernelHandler<Message> {
     kernel.sendBusyMessage(message);
     String codeString = takeCodeFrom(message);
     announceTheCode(message, codeString);
+    long start = KernelMetrics.start();
     Code code = CodeFactory.create(codeString, message, kernel);
+    KernelMetrics.record(KernelMetrics.Stage.PARSE, start);
     code.execute(kernel, executionCount);
     finishExecution(message);
   }
@@ -20,10 +20,16 @@ import org.apache.commons.cli.Options;
 public class AsyncOptions {
 
   public static final String THEN = "then";
+  public static final String NAME = "name";
+  public static final String AFTER = "after";
+  public static final String PRIORITY = "priority";
   private Options options = new Options();
 
   public AsyncOptions() {
     options.addOption("t", THEN, true, "Run tag");
+    options.addOption("n", NAME, true, "Name other cells can wait for");
+    options.addOption("a", AFTER, true, "Start after the cell with this name ends");
+    options.addOption("p", PRIORITY, true, "Priority, higher starts first");
   }
 
   public Options getOptions() {
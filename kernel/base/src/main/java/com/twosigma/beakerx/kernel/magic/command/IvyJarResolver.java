@@ -0,0 +1,230 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel.magic.command;
+
+import com.twosigma.beakerx.kernel.magic.command.MavenJarResolver.Dependency;
+import com.twosigma.beakerx.kernel.magic.command.MavenJarResolver.ResolverParams;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.ivy.Ivy;
+import org.apache.ivy.core.module.descriptor.Artifact;
+import org.apache.ivy.core.module.descriptor.DefaultDependencyArtifactDescriptor;
+import org.apache.ivy.core.module.descriptor.DefaultDependencyDescriptor;
+import org.apache.ivy.core.module.descriptor.DefaultModuleDescriptor;
+import org.apache.ivy.core.module.id.ModuleRevisionId;
+import org.apache.ivy.core.report.ArtifactDownloadReport;
+import org.apache.ivy.core.report.DownloadStatus;
+import org.apache.ivy.core.report.ResolveReport;
+import org.apache.ivy.core.resolve.DownloadOptions;
+import org.apache.ivy.core.resolve.ResolveOptions;
+import org.apache.ivy.core.settings.IvySettings;
+import org.apache.ivy.plugins.resolver.ChainResolver;
+import org.apache.ivy.plugins.resolver.IBiblioResolver;
+import org.apache.ivy.util.DefaultMessageLogger;
+import org.apache.ivy.util.Message;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves dependencies inside the kernel JVM with Ivy instead of forking Maven.
+ * A resolved dependency graph is cached on disk keyed by the coordinates and repositories,
+ * a re-run whose jars are all present does no resolution and no network I/O.
+ * Artifacts of a graph are downloaded in parallel.
+ */
+public class IvyJarResolver {
+
+  public static final String IVY_CACHE = ".ivy-cache";
+  public static final String MAVEN_CENTRAL = "https://repo1.maven.org/maven2/";
+  static final String RESOLVED_GRAPHS = "graphs";
+  static final String DEFAULT_CONF = "default";
+  static final String DOWNLOAD_LINE = "Downloaded: %s (%.1f KB at %.1f KB/s)";
+  private static final int DOWNLOAD_THREADS = 4;
+
+  private final ResolverParams commandParams;
+  private final File cacheDir;
+
+  public IvyJarResolver(ResolverParams commandParams) {
+    this.commandParams = commandParams;
+    this.cacheDir = new File(commandParams.getPathToCache(), IVY_CACHE);
+  }
+
+  public Optional<List<File>> cached(List<Dependency> dependencies) {
+    File graph = graphFile(dependencies);
+    if (!graph.exists()) {
+      return Optional.empty();
+    }
+    try {
+      List<File> jars = FileUtils.readLines(graph, StandardCharsets.UTF_8).stream()
+              .filter(line -> !line.isEmpty())
+              .map(File::new)
+              .collect(Collectors.toList());
+      return jars.stream().allMatch(File::exists) ? Optional.of(jars) : Optional.empty();
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  public List<File> resolve(List<Dependency> dependencies, Consumer<String> downloadLog) throws Exception {
+    Ivy ivy = createIvy();
+    ivy.pushContext();
+    try {
+      ResolveReport report = ivy.resolve(moduleDescriptor(dependencies), resolveOptions());
+      if (report.hasError()) {
+        throw new IllegalStateException(String.join("\n", problems(report)));
+      }
+      List<File> jars = download(ivy, artifacts(report), downloadLog);
+      FileUtils.writeLines(graphFile(dependencies), StandardCharsets.UTF_8.name(),
+              jars.stream().map(File::getAbsolutePath).collect(Collectors.toList()));
+      return jars;
+    } finally {
+      ivy.popContext();
+    }
+  }
+
+  private List<File> download(Ivy ivy, List<Artifact> artifacts, Consumer<String> downloadLog) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(DOWNLOAD_THREADS, Math.max(1, artifacts.size())));
+    try {
+      List<Future<ArtifactDownloadReport>> downloads = new ArrayList<>();
+      for (Artifact artifact : artifacts) {
+        downloads.add(executor.submit(() -> download(ivy, artifact)));
+      }
+      List<File> jars = new ArrayList<>();
+      for (Future<ArtifactDownloadReport> download : downloads) {
+        ArtifactDownloadReport report = get(download);
+        if (report.getDownloadStatus() == DownloadStatus.FAILED) {
+          throw new IllegalStateException("Could not download " + report.getArtifact());
+        }
+        if (report.getDownloadStatus() == DownloadStatus.SUCCESSFUL) {
+          downloadLog.accept(downloadLine(report));
+        }
+        jars.add(report.getLocalFile());
+      }
+      return jars;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private ArtifactDownloadReport download(Ivy ivy, Artifact artifact) {
+    ivy.pushContext();
+    try {
+      return ivy.getResolveEngine().download(artifact, new DownloadOptions());
+    } finally {
+      ivy.popContext();
+    }
+  }
+
+  private ArtifactDownloadReport get(Future<ArtifactDownloadReport> download) throws Exception {
+    try {
+      return download.get();
+    } catch (ExecutionException e) {
+      throw (e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+    }
+  }
+
+  private String downloadLine(ArtifactDownloadReport report) {
+    double sizeInKb = report.getSize() / 1000.0;
+    double seconds = Math.max(report.getDownloadTimeMillis(), 1) / 1000.0;
+    return String.format(Locale.US, DOWNLOAD_LINE, report.getLocalFile().getName(), sizeInKb, sizeInKb / seconds);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Artifact> artifacts(ResolveReport report) {
+    return (List<Artifact>) report.getArtifacts();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> problems(ResolveReport report) {
+    return (List<String>) report.getAllProblemMessages();
+  }
+
+  private ResolveOptions resolveOptions() {
+    return new ResolveOptions()
+            .setConfs(new String[]{DEFAULT_CONF})
+            .setTransitive(true)
+            .setDownload(false)
+            .setOutputReport(false);
+  }
+
+  private DefaultModuleDescriptor moduleDescriptor(List<Dependency> dependencies) {
+    DefaultModuleDescriptor md = DefaultModuleDescriptor.newDefaultInstance(
+            ModuleRevisionId.newInstance("com.twosigma.beakerx", "magicCommandDownloader-" + UUID.randomUUID(), "working"));
+    for (Dependency dependency : dependencies) {
+      ModuleRevisionId mrid = ModuleRevisionId.newInstance(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
+      DefaultDependencyDescriptor dd = new DefaultDependencyDescriptor(md, mrid, false, false, true);
+      dd.addDependencyConfiguration(DEFAULT_CONF, DEFAULT_CONF);
+      if (!Dependency.DEFAULT_TYPE.equals(dependency.getType()) || dependency.getClassifier().isPresent()) {
+        Map<String, String> extra = new HashMap<>();
+        dependency.getClassifier().ifPresent(classifier -> extra.put("m:classifier", classifier));
+        DefaultDependencyArtifactDescriptor dad = new DefaultDependencyArtifactDescriptor(
+                dd, dependency.getArtifactId(), dependency.getType(), dependency.getType(), null, extra);
+        dd.addDependencyArtifact(DEFAULT_CONF, dad);
+      }
+      md.addDependency(dd);
+    }
+    return md;
+  }
+
+  private Ivy createIvy() {
+    IvySettings settings = new IvySettings();
+    settings.setDefaultCache(cacheDir);
+    ChainResolver chain = new ChainResolver();
+    chain.setName("beakerx");
+    chain.setReturnFirst(true);
+    chain.add(mavenRepo("local", new File(commandParams.getPathToCache()).toURI().toString()));
+    if (!commandParams.getOffline()) {
+      commandParams.getRepos().forEach((name, url) -> chain.add(mavenRepo(name, url)));
+      chain.add(mavenRepo("central", MAVEN_CENTRAL));
+    }
+    settings.addResolver(chain);
+    settings.setDefaultResolver(chain.getName());
+    Ivy ivy = Ivy.newInstance(settings);
+    ivy.getLoggerEngine().setDefaultLogger(new DefaultMessageLogger(Message.MSG_ERR));
+    return ivy;
+  }
+
+  private IBiblioResolver mavenRepo(String name, String url) {
+    IBiblioResolver resolver = new IBiblioResolver();
+    resolver.setName(name);
+    resolver.setRoot(url);
+    resolver.setM2compatible(true);
+    resolver.setUsepoms(true);
+    return resolver;
+  }
+
+  private File graphFile(List<Dependency> dependencies) {
+    List<String> key = new ArrayList<>();
+    dependencies.forEach(dependency -> key.add(dependency.toString() + " : " + dependency.getClassifier().orElse("")));
+    key.add(new TreeMap<>(commandParams.getRepos()).toString());
+    return new File(new File(cacheDir, RESOLVED_GRAPHS), DigestUtils.sha1Hex(String.join("\n", key)) + ".txt");
+  }
+}
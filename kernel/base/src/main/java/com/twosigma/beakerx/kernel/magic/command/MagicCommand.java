@@ -21,6 +21,7 @@ import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
 import com.twosigma.beakerx.kernel.Code;
 import com.twosigma.beakerx.kernel.CodeFrame;
 import com.twosigma.beakerx.kernel.KernelFunctionality;
+import com.twosigma.beakerx.kernel.KernelMetrics;
 import com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutcomeItem;
 import com.twosigma.beakerx.message.Message;
 
@@ -85,6 +86,9 @@ public class MagicCommand extends CodeFrame {
             executionCount,
             code,
             showResult);
-    return execute(param);
+    long start = KernelMetrics.start();
+    MagicCommandOutcomeItem outcome = execute(param);
+    KernelMetrics.record(KernelMetrics.Stage.MAGIC, start);
+    return outcome;
   }
 }
@@ -36,11 +36,13 @@ import com.twosigma.beakerx.kernel.magic.command.functionality.JSMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.JavaScriptMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.LoadMagicMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.LsMagicCommand;
+import com.twosigma.beakerx.kernel.magic.command.functionality.PerfMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.TimeCellModeMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.TimeItCellModeMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.TimeItLineModeMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.TimeLineModeMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.UnImportMagicCommand;
+import com.twosigma.beakerx.kernel.magic.command.functionality.WidgetsMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.kernelMagic.ClojureMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.kernelMagic.GroovyMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.kernelMagic.JavaMagicCommand;
@@ -77,7 +79,7 @@ public class MagicCommandConfigurationImpl implements MagicCommandConfiguration
                     js(),
                     html(),
                     HTML(),
-                    bash(),
+                    bash(kernel),
                     lsmagic(magicCommandTypes),
                     addJar(kernel),
                     addJarByMvn(kernel),
@@ -94,6 +96,8 @@ public class MagicCommandConfigurationImpl implements MagicCommandConfiguration
                     timeItLine(kernel),
                     timeItCell(kernel),
                     loadMagic(kernel),
+                    widgets(),
+                    perf(),
                     kernel(kernel),
                     //aliases for kernel magic
                     python(kernel),
@@ -190,8 +194,16 @@ public class MagicCommandConfigurationImpl implements MagicCommandConfiguration
     return new MagicCommandType(LsMagicCommand.LSMAGIC, "", new LsMagicCommand(magicCommandTypes));
   }
 
-  private MagicCommandType bash() {
-    return new MagicCommandType(BashMagicCommand.BASH, "", new BashMagicCommand());
+  private MagicCommandType perf() {
+    return new MagicCommandType(PerfMagicCommand.PERF, "[on|off|reset]", new PerfMagicCommand());
+  }
+
+  private MagicCommandType widgets() {
+    return new MagicCommandType(WidgetsMagicCommand.WIDGETS, "[count]", new WidgetsMagicCommand());
+  }
+
+  private MagicCommandType bash(KernelFunctionality kernel) {
+    return new MagicCommandType(BashMagicCommand.BASH, "", new BashMagicCommand(kernel));
   }
 
   private MagicCommandType html() {
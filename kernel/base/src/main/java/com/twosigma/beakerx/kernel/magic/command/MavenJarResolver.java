@@ -64,6 +64,7 @@ public class MavenJarResolver {
   private ResolverParams commandParams;
   private String mavenLocation;
   private PomFactory pomFactory;
+  private IvyJarResolver ivyJarResolver;
   private MvnLogsWidget logs;
 
   public MavenJarResolver(final ResolverParams commandParams,
@@ -71,6 +72,7 @@ public class MavenJarResolver {
     this.commandParams = Preconditions.checkNotNull(commandParams);
     this.pathToMavenRepo = getOrCreateFile(commandParams.getPathToNotebookJars()).getAbsolutePath();
     this.pomFactory = pomFactory;
+    this.ivyJarResolver = new IvyJarResolver(commandParams);
   }
 
 
@@ -85,11 +87,50 @@ public class MavenJarResolver {
   }
 
   public AddMvnCommandResult retrieve(List<Dependency> dependencies, Message parent) {
+    Optional<List<File>> cached = ivyJarResolver.cached(dependencies);
+    if (cached.isPresent()) {
+      return AddMvnCommandResult.success(copyToNotebookJars(cached.get()));
+    }
+    Optional<List<File>> resolved = resolveInProcess(dependencies, parent);
+    if (resolved.isPresent()) {
+      return AddMvnCommandResult.success(copyToNotebookJars(resolved.get()));
+    }
     String pomAsString = pomFactory.createPom(new PomFactory.Params(pathToMavenRepo, commandParams.getRepos(), GOAL, MAVEN_BUILT_CLASSPATH_FILE_NAME), dependencies);
     String deps = dependencies.stream().map(Dependency::toString).collect(Collectors.joining());
     return retrieveDeps(deps, parent, pomAsString);
   }
 
+  private Optional<List<File>> resolveInProcess(List<Dependency> dependencies, Message parent) {
+    MvnDownloadLoggerWidget progress = new MvnDownloadLoggerWidget(parent);
+    try {
+      progress.display();
+      return Optional.of(ivyJarResolver.resolve(dependencies, progress::sendLog));
+    } catch (Exception e) {
+      logger.info("In-process resolution failed, falling back to mvn: " + e.getMessage());
+      return Optional.empty();
+    } finally {
+      progress.close();
+    }
+  }
+
+  private List<String> copyToNotebookJars(List<File> jars) {
+    try {
+      List<String> result = new ArrayList<>();
+      for (File jar : jars) {
+        File target = new File(pathToMavenRepo, jar.getName());
+        if (!target.exists() || target.length() != jar.length()) {
+          FileUtils.copyFile(jar, target);
+        }
+        result.add(target.getAbsolutePath());
+      }
+      FileUtils.writeStringToFile(new File(pathToMavenRepo, MAVEN_BUILT_CLASSPATH_FILE_NAME),
+              String.join(File.pathSeparator, result), StandardCharsets.UTF_8);
+      return result;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private AddMvnCommandResult retrieveDeps(String dependencies, Message parent, String pomAsString) {
     File finalPom = null;
     try {
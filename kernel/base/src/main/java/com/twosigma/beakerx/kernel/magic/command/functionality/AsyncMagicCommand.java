@@ -17,6 +17,7 @@ package com.twosigma.beakerx.kernel.magic.command.functionality;
 
 import com.twosigma.beakerx.TryResult;
 import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
+import com.twosigma.beakerx.kernel.AsyncScheduler;
 import com.twosigma.beakerx.kernel.ExecutionOptions;
 import com.twosigma.beakerx.kernel.GroupName;
 import com.twosigma.beakerx.kernel.KernelFunctionality;
@@ -33,8 +34,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static com.twosigma.beakerx.kernel.CodeFrame.handleResult;
 import static com.twosigma.beakerx.kernel.PlainCode.createSimpleEvaluationObject;
@@ -46,8 +45,10 @@ public class AsyncMagicCommand implements MagicCommandFunctionality {
 
   public static final String ASYNC = "%%async";
   public static final String CANCEL_EXECUTION = "cancel/execution/";
+  public static final String RUNNING = "Running...";
+  public static final String QUEUED = "Queued...";
+  public static final String CANCELLED = "Cancelled";
   private KernelFunctionality kernel;
-  private ExecutorService executorService = Executors.newCachedThreadPool();
   private AsyncMagicCommandOptions asyncMagicCommandOptions;
 
   public AsyncMagicCommand(KernelFunctionality kernel) {
@@ -71,19 +72,8 @@ public class AsyncMagicCommand implements MagicCommandFunctionality {
 
   private MagicCommandOutcomeItem runAsync(MagicCommandExecutionParam param, AsyncMagicCommandOptions.OptionsResult optionsResult) {
     GroupName groupName = GroupName.generate();
-    Message parentMessage = param.getCode().getMessage();
-    HBox panel = createCancelPanel(parentMessage, groupName.asString());
-    panel.display();
-    executorService.submit(() -> {
-      int executionCount = param.getExecutionCount();
-      SimpleEvaluationObject seo = createSimpleEvaluationObject(param.getCommandCodeBlock(), kernel, parentMessage, executionCount);
-      TryResult result = kernel.executeCode(param.getCommandCodeBlock(), seo, new ExecutionOptions(groupName));
-      panel.close();
-      handleResult(seo, result);
-      if (result.isResult()) {
-        optionsResult.options().forEach(AsyncOptionCommand::run);
-      }
-    });
+    AsyncCell cell = new AsyncCell(param, optionsResult, groupName);
+    kernel.getAsyncScheduler().submit(new AsyncScheduler.Job(groupName, optionsResult.name(), optionsResult.after(), optionsResult.priority(), cell));
     return new MagicCommandOutput(OK);
   }
 
@@ -96,14 +86,66 @@ public class AsyncMagicCommand implements MagicCommandFunctionality {
   }
 
   @NotNull
-  private HBox createCancelPanel(Message parentMessage, String groupName) {
-    Spinner spinner = new Spinner(parentMessage, "Running...");
+  private HBox createCancelPanel(Message parentMessage, String groupName, String title) {
+    Spinner spinner = new Spinner(parentMessage, title);
     RESTButton xButton = new RESTButton(KernelManager.get().getBeakerXServer().getURL() + CANCEL_EXECUTION + groupName, parentMessage);
     xButton.setDomClasses(new ArrayList<>(asList("bx-button", "icon-close")));
     xButton.setTooltip("Cancel asynchronous computation");
     return new HBox(Arrays.asList(xButton, spinner), parentMessage);
   }
 
+  private class AsyncCell implements AsyncScheduler.AsyncTask {
+
+    private final MagicCommandExecutionParam param;
+    private final AsyncMagicCommandOptions.OptionsResult optionsResult;
+    private final GroupName groupName;
+    private final Message parentMessage;
+    private HBox queuedPanel;
+
+    AsyncCell(MagicCommandExecutionParam param, AsyncMagicCommandOptions.OptionsResult optionsResult, GroupName groupName) {
+      this.param = param;
+      this.optionsResult = optionsResult;
+      this.groupName = groupName;
+      this.parentMessage = param.getCode().getMessage();
+    }
+
+    @Override
+    public synchronized void queued() {
+      queuedPanel = createCancelPanel(parentMessage, groupName.asString(), QUEUED);
+      queuedPanel.display();
+    }
+
+    @Override
+    public void run() {
+      closeQueuedPanel();
+      HBox panel = createCancelPanel(parentMessage, groupName.asString(), RUNNING);
+      panel.display();
+      SimpleEvaluationObject seo = createSeo();
+      TryResult result = kernel.executeCode(param.getCommandCodeBlock(), seo, new ExecutionOptions(groupName));
+      panel.close();
+      handleResult(seo, result);
+      if (result.isResult()) {
+        optionsResult.options().forEach(AsyncOptionCommand::run);
+      }
+    }
+
+    @Override
+    public void cancelled() {
+      closeQueuedPanel();
+      handleResult(createSeo(), TryResult.createError(CANCELLED));
+    }
+
+    private synchronized void closeQueuedPanel() {
+      if (queuedPanel != null) {
+        queuedPanel.close();
+        queuedPanel = null;
+      }
+    }
+
+    private SimpleEvaluationObject createSeo() {
+      return createSimpleEvaluationObject(param.getCommandCodeBlock(), kernel, parentMessage, param.getExecutionCount());
+    }
+  }
 
   interface AsyncOptionCommand {
     void run();
@@ -16,6 +16,7 @@
 package com.twosigma.beakerx.kernel.magic.command.functionality;
 
 import com.twosigma.beakerx.BeakerXClientManager;
+import com.twosigma.beakerx.kernel.AsyncScheduler;
 import com.twosigma.beakerx.kernel.magic.command.AsyncOptions;
 import org.apache.commons.cli.BasicParser;
 import org.apache.commons.cli.CommandLine;
@@ -33,18 +34,30 @@ public class AsyncMagicCommandOptions {
     this.asyncOptions = new AsyncOptions();
   }
 
+  public static final String WRONG_PRIORITY = "Priority has to be an integer: ";
+
   public OptionsResult parseOptions(String[] args) {
     CommandLineParser parser = new BasicParser();
     List<AsyncMagicCommand.AsyncOptionCommand> commands = new ArrayList<>();
+    int priority = AsyncScheduler.DEFAULT_PRIORITY;
+    CommandLine cmd;
     try {
-      CommandLine cmd = parser.parse(asyncOptions.getOptions(), args);
+      cmd = parser.parse(asyncOptions.getOptions(), args);
       if (cmd.hasOption(AsyncOptions.THEN)) {
         commands.add(() -> BeakerXClientManager.get().runByTag(cmd.getOptionValue(AsyncOptions.THEN)));
       }
+      if (cmd.hasOption(AsyncOptions.PRIORITY)) {
+        String value = cmd.getOptionValue(AsyncOptions.PRIORITY);
+        try {
+          priority = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+          return new ErrorOptionsResult(WRONG_PRIORITY + value);
+        }
+      }
     } catch (ParseException e) {
       return new ErrorOptionsResult(e.getMessage());
     }
-    return new AsyncOptionsResult(commands);
+    return new AsyncOptionsResult(commands, cmd.getOptionValue(AsyncOptions.NAME), cmd.getOptionValue(AsyncOptions.AFTER), priority);
   }
 
   public interface OptionsResult {
@@ -53,6 +66,12 @@ public class AsyncMagicCommandOptions {
     String errorMsg();
 
     List<AsyncMagicCommand.AsyncOptionCommand> options();
+
+    String name();
+
+    String after();
+
+    int priority();
   }
 
   private class ErrorOptionsResult implements OptionsResult {
@@ -76,13 +95,34 @@ public class AsyncMagicCommandOptions {
     public List<AsyncMagicCommand.AsyncOptionCommand> options() {
       return new ArrayList<>();
     }
+
+    @Override
+    public String name() {
+      return null;
+    }
+
+    @Override
+    public String after() {
+      return null;
+    }
+
+    @Override
+    public int priority() {
+      return AsyncScheduler.DEFAULT_PRIORITY;
+    }
   }
 
   private class AsyncOptionsResult implements OptionsResult {
     private List<AsyncMagicCommand.AsyncOptionCommand> sparkOptions;
+    private String name;
+    private String after;
+    private int priority;
 
-    public AsyncOptionsResult(List<AsyncMagicCommand.AsyncOptionCommand> sparkOptions) {
+    public AsyncOptionsResult(List<AsyncMagicCommand.AsyncOptionCommand> sparkOptions, String name, String after, int priority) {
       this.sparkOptions = sparkOptions;
+      this.name = name;
+      this.after = after;
+      this.priority = priority;
     }
 
     @Override
@@ -99,6 +139,21 @@ public class AsyncMagicCommandOptions {
     public List<AsyncMagicCommand.AsyncOptionCommand> options() {
       return sparkOptions;
     }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public String after() {
+      return after;
+    }
+
+    @Override
+    public int priority() {
+      return priority;
+    }
   }
 }
 
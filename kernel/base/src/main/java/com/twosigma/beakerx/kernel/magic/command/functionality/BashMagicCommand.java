@@ -15,20 +15,41 @@
  */
 package com.twosigma.beakerx.kernel.magic.command.functionality;
 
+import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
+import com.twosigma.beakerx.kernel.KernelFunctionality;
 import com.twosigma.beakerx.kernel.magic.command.MagicCommandExecutionParam;
 import com.twosigma.beakerx.kernel.magic.command.MagicCommandFunctionality;
 import com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutcomeItem;
 import com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutput;
 
-import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.twosigma.beakerx.kernel.PlainCode.createSimpleEvaluationObject;
 
 public class BashMagicCommand implements MagicCommandFunctionality {
 
   public static final String BASH = "%%bash";
+  public static final String EXIT_CODE = "Process exited with code %d";
+  public static final String CANCELLED = "Process was cancelled";
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final long KILL_GRACE_MILLIS = 1000;
+  private static final String[] SETSID_PATHS = {"/usr/bin/setsid", "/bin/setsid"};
 
-  public BashMagicCommand() {
+  private KernelFunctionality kernel;
+  private final Set<Execution> executions = ConcurrentHashMap.newKeySet();
+  private boolean cancelHookRegistered;
+
+  public BashMagicCommand(KernelFunctionality kernel) {
+    this.kernel = kernel;
   }
 
   @Override
@@ -38,33 +59,134 @@ public class BashMagicCommand implements MagicCommandFunctionality {
 
   @Override
   public MagicCommandOutcomeItem execute(MagicCommandExecutionParam param) {
+    registerCancelHook();
     String commandCodeBlock = param.getCommandCodeBlock();
-    ErrorData errorData = executeBashCode(commandCodeBlock);
-    if (errorData.hasError()) {
-      return new MagicCommandOutput(MagicCommandOutput.Status.ERROR, errorData.getMessage());
+    SimpleEvaluationObject seo = createSimpleEvaluationObject(commandCodeBlock, kernel, param.getCode().getMessage(), param.getExecutionCount());
+    Execution execution;
+    int exitCode;
+    try {
+      execution = new Execution(commandCodeBlock);
+    } catch (IOException e) {
+      return new MagicCommandOutput(MagicCommandOutput.Status.ERROR, e.getMessage());
+    }
+    executions.add(execution);
+    try {
+      exitCode = execution.run(seo);
+    } catch (IOException | InterruptedException e) {
+      return new MagicCommandOutput(MagicCommandOutput.Status.ERROR, e.getMessage());
+    } finally {
+      executions.remove(execution);
+    }
+    if (execution.cancelled) {
+      return new MagicCommandOutput(MagicCommandOutput.Status.ERROR, CANCELLED);
     }
-    return new MagicCommandOutput(MagicCommandOutput.Status.OK, errorData.getMessage());
+    if (exitCode != 0) {
+      return new MagicCommandOutput(MagicCommandOutput.Status.ERROR, String.format(EXIT_CODE, exitCode));
+    }
+    return new MagicCommandOutput(MagicCommandOutput.Status.OK);
   }
 
-  private ErrorData executeBashCode(String code) {
-    String[] cmd = {"/bin/bash", "-c", code};
-    ProcessBuilder pb = new ProcessBuilder(cmd);
-    pb.redirectErrorStream(true);
-    StringBuilder output = new StringBuilder();
-    try {
-      Process process = pb.start();
-      process.waitFor();
-      String line;
-      BufferedReader reader = new BufferedReader(new InputStreamReader(
-              process.getInputStream()));
-      while ((line = reader.readLine()) != null) {
-        output.append(line).append("\n");
+  /**
+   * Kills the running bash processes together with the processes they started.
+   */
+  public void cancel() {
+    executions.forEach(Execution::cancel);
+  }
+
+  private void registerCancelHook() {
+    if (!cancelHookRegistered) {
+      kernel.registerCancelHook(this::cancel);
+      cancelHookRegistered = true;
+    }
+  }
+
+  /**
+   * A bash process started in its own session, so its pid is also the id of the process group
+   * which a cancel kills as a whole. A child left running would otherwise keep the output pipe open.
+   */
+  private static class Execution {
+    private final Process process;
+    private final boolean ownProcessGroup;
+    private volatile boolean cancelled;
+
+    Execution(String code) throws IOException {
+      String setsid = setsid();
+      ProcessBuilder pb = setsid != null
+              ? new ProcessBuilder(setsid, "/bin/bash", "-c", code)
+              : new ProcessBuilder("/bin/bash", "-c", code);
+      pb.redirectErrorStream(true);
+      this.ownProcessGroup = setsid != null;
+      this.process = pb.start();
+    }
+
+    /**
+     * Forwards the merged stdout/stderr to the cell while the process runs, every read sends what is
+     * already buffered as one stream message instead of one message per line.
+     */
+    int run(SimpleEvaluationObject seo) throws IOException, InterruptedException {
+      try (Reader reader = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)) {
+        char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+          seo.getStdOutputHandler().write(new String(buffer, 0, read));
+        }
+      } catch (IOException e) {
+        if (!cancelled) {
+          throw e;
+        }
       }
-      process.destroy();
-    } catch (IOException | InterruptedException e) {
-      return new ErrorData(true, e.getMessage());
+      return process.waitFor();
+    }
+
+    void cancel() {
+      cancelled = true;
+      long pid = pid(process);
+      try {
+        if (pid > 0) {
+          signal("TERM", pid);
+          if (!process.waitFor(KILL_GRACE_MILLIS, TimeUnit.MILLISECONDS)) {
+            signal("KILL", pid);
+          }
+        }
+      } catch (IOException e) {
+        // bash itself is still destroyed below
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      process.destroyForcibly();
+    }
+
+    private void signal(String signal, long pid) throws IOException, InterruptedException {
+      ProcessBuilder kill = ownProcessGroup
+              ? new ProcessBuilder("kill", "-" + signal, "-" + pid)
+              : new ProcessBuilder("pkill", "-" + signal, "-P", String.valueOf(pid));
+      kill.redirectErrorStream(true).start().waitFor();
     }
+  }
+
+  private static String setsid() {
+    for (String path : SETSID_PATHS) {
+      if (new File(path).canExecute()) {
+        return path;
+      }
+    }
+    return null;
+  }
 
-    return new ErrorData(false, output.toString());
+  /**
+   * Process.pid() is only there since Java 9, on Java 8 the pid is read from the UNIXProcess field.
+   */
+  private static long pid(Process process) {
+    try {
+      return (Long) Process.class.getMethod("pid").invoke(process);
+    } catch (Exception e) {
+      try {
+        Field pid = process.getClass().getDeclaredField("pid");
+        pid.setAccessible(true);
+        return pid.getLong(process);
+      } catch (Exception ex) {
+        return -1;
+      }
+    }
   }
 }
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel.magic.command.functionality;
+
+import com.twosigma.beakerx.kernel.KernelMetrics;
+import com.twosigma.beakerx.kernel.magic.command.MagicCommandExecutionParam;
+import com.twosigma.beakerx.kernel.magic.command.MagicCommandFunctionality;
+import com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutcomeItem;
+import com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutput;
+
+import static com.twosigma.beakerx.kernel.magic.command.functionality.MagicCommandUtils.splitPath;
+import static com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutcomeItem.Status.ERROR;
+import static com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutcomeItem.Status.OK;
+
+/**
+ * %perf shows the kernel metrics, %perf on|off|reset switches recording or clears what was recorded.
+ */
+public class PerfMagicCommand implements MagicCommandFunctionality {
+
+  public static final String PERF = "%perf";
+  public static final String ON = "on";
+  public static final String OFF = "off";
+  public static final String RESET = "reset";
+  public static final String DISABLED = "Metrics are off, enable them with " + PERF + " " + ON;
+
+  @Override
+  public String getMagicCommandName() {
+    return PERF;
+  }
+
+  @Override
+  public MagicCommandOutcomeItem execute(MagicCommandExecutionParam param) {
+    String[] split = splitPath(param.getCommand());
+    if (split.length == 1) {
+      return new MagicCommandOutput(OK, KernelMetrics.isEnabled() ? KernelMetrics.report() : DISABLED);
+    }
+    if (split.length == 2 && ON.equals(split[1])) {
+      KernelMetrics.setEnabled(true);
+      return new MagicCommandOutput(OK, "Metrics are on");
+    }
+    if (split.length == 2 && OFF.equals(split[1])) {
+      KernelMetrics.setEnabled(false);
+      return new MagicCommandOutput(OK, "Metrics are off");
+    }
+    if (split.length == 2 && RESET.equals(split[1])) {
+      KernelMetrics.reset();
+      return new MagicCommandOutput(OK, "Metrics were reset");
+    }
+    return new MagicCommandOutput(ERROR, WRONG_FORMAT_MSG + PERF + " [" + ON + "|" + OFF + "|" + RESET + "]");
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel.magic.command.functionality;
+
+import com.twosigma.beakerx.kernel.magic.command.MagicCommandExecutionParam;
+import com.twosigma.beakerx.kernel.magic.command.MagicCommandFunctionality;
+import com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutcomeItem;
+import com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutput;
+import com.twosigma.beakerx.widget.WidgetDataStore;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.twosigma.beakerx.kernel.magic.command.functionality.MagicCommandUtils.splitPath;
+import static com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutcomeItem.Status.ERROR;
+import static com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutcomeItem.Status.OK;
+
+public class WidgetsMagicCommand implements MagicCommandFunctionality {
+
+  public static final String WIDGETS = "%widgets";
+  public static final String NO_WIDGETS = "No live widgets with tracked data";
+  public static final int DEFAULT_LIMIT = 10;
+
+  private WidgetDataStore store;
+
+  public WidgetsMagicCommand() {
+    this(WidgetDataStore.getInstance());
+  }
+
+  WidgetsMagicCommand(WidgetDataStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public String getMagicCommandName() {
+    return WIDGETS;
+  }
+
+  @Override
+  public MagicCommandOutcomeItem execute(MagicCommandExecutionParam param) {
+    String[] split = splitPath(param.getCommand());
+    int limit = DEFAULT_LIMIT;
+    if (split.length > 2) {
+      return new MagicCommandOutput(ERROR, WRONG_FORMAT_MSG + WIDGETS);
+    }
+    if (split.length == 2) {
+      try {
+        limit = Integer.parseInt(split[1]);
+      } catch (NumberFormatException e) {
+        return new MagicCommandOutput(ERROR, WRONG_FORMAT_MSG + WIDGETS);
+      }
+    }
+    return new MagicCommandOutput(OK, report(store.largest(limit)));
+  }
+
+  private String report(List<WidgetDataStore.WidgetInfo> widgets) {
+    if (widgets.isEmpty()) {
+      return NO_WIDGETS;
+    }
+    StringBuilder report = new StringBuilder("Largest live widgets:");
+    for (WidgetDataStore.WidgetInfo widget : widgets) {
+      report.append(String.format("\n%-36s %-14s %10s  %s, idle %d min",
+              widget.getCommId(),
+              widget.getName(),
+              formatSize(widget.getFootprint()),
+              widget.isSpilled() ? "spilled to disk" : "in memory",
+              TimeUnit.MILLISECONDS.toMinutes(widget.getIdleMillis())));
+    }
+    return report.toString();
+  }
+
+  private static String formatSize(long bytes) {
+    if (bytes < 1024) {
+      return bytes + " B";
+    }
+    if (bytes < 1024 * 1024) {
+      return String.format("%.1f KB", bytes / 1024.0);
+    }
+    return String.format("%.1f MB", bytes / (1024.0 * 1024));
+  }
+}
@@ -42,6 +42,7 @@ import org.slf4j.LoggerFactory;
 
 import com.twosigma.beakerx.MIMEContainerFactory;
 import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject.EvaluationStatus;
+import com.twosigma.beakerx.kernel.KernelMetrics;
 import com.twosigma.beakerx.kernel.SocketEnum;
 
 /**
@@ -162,6 +163,7 @@ public class MessageCreator {
 
   public static List<MessageHolder> createMessage(SimpleEvaluationObject seo) {
     logger.debug("Creating message response message from: " + seo);
+    long start = KernelMetrics.start();
     Message message = seo.getJupyterMessage();
     List<MessageHolder> ret = new ArrayList<>();
     if (isConsoleOutputMessage(seo)) {
@@ -173,6 +175,7 @@ public class MessageCreator {
     } else {
       logger.debug("Unhandled status of SimpleEvaluationObject : " + seo.getStatus());
     }
+    KernelMetrics.record(KernelMetrics.Stage.SERIALIZE, start);
     return ret;
   }
 
@@ -18,9 +18,12 @@ package com.twosigma.beakerx.message;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class MessageSerializer {
 
+  private static final Logger logger = LoggerFactory.getLogger(MessageSerializer.class);
   private static ObjectMapper mapper;
 
   static {
@@ -43,6 +46,30 @@ public class MessageSerializer {
     return result;
   }
 
+  public static <T> T parse(byte[] json, Class<T> theClass) {
+    T result = null;
+    try {
+      result = mapper.readValue(json, theClass);
+    } catch (Exception e) {
+      // Ignored.
+    }
+
+    return result;
+  }
+
+  /**
+   * Writes the object straight to UTF-8 bytes, Jackson recycles its internal buffers between calls.
+   * A failure is not swallowed, a message frame must never be sent empty.
+   */
+  public static byte[] toJsonBytes(Object object) {
+    try {
+      return mapper.writeValueAsBytes(object);
+    } catch (Exception e) {
+      logger.error("Could not serialize " + (object != null ? object.getClass().getName() : null) + " to JSON", e);
+      throw new RuntimeException(e);
+    }
+  }
+
   public static String toJson(Object object) {
     try {
       return mapper.writeValueAsString(object);
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
+import com.twosigma.beakerx.kernel.KernelMetrics;
 import org.apache.commons.codec.binary.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +38,7 @@ public class HashedMessageAuthenticationCode {
   private static Logger logger = LoggerFactory.getLogger(HashedMessageAuthenticationCode.class);
 
   private SecretKeySpec spec;
+  private ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::createMac);
 
   public HashedMessageAuthenticationCode(String key) {
     checkNotNull(key);
@@ -49,13 +51,23 @@ public class HashedMessageAuthenticationCode {
     return signBytes(collect);
   }
 
+  /**
+   * Updates the digest frame by frame over the bytes which are sent, the Mac is reused per thread.
+   */
   public String signBytes(List<byte[]> msg) {
+    long start = KernelMetrics.start();
+    Mac mac = this.mac.get();
+    msg.forEach(mac::update);
+    String digest = toHex(mac.doFinal());
+    KernelMetrics.record(KernelMetrics.Stage.HMAC, start);
+    return digest;
+  }
+
+  private Mac createMac() {
     try {
-      final Mac mac = Mac.getInstance(TYPE);
+      Mac mac = Mac.getInstance(TYPE);
       mac.init(spec);
-      msg.forEach(it -> mac.update(it));
-      byte[] digest = mac.doFinal();
-      return toHex(digest);
+      return mac;
     } catch (InvalidKeyException e) {
       throw new RuntimeException(INVALID_HMAC_EXCEPTION, e);
     } catch (NoSuchAlgorithmException e) {
@@ -18,6 +18,7 @@ package com.twosigma.beakerx.socket;
 import com.twosigma.beakerx.handler.Handler;
 import com.twosigma.beakerx.kernel.Config;
 import com.twosigma.beakerx.kernel.KernelFunctionality;
+import com.twosigma.beakerx.kernel.KernelMetrics;
 import com.twosigma.beakerx.kernel.KernelSockets;
 import com.twosigma.beakerx.kernel.SocketCloseAction;
 import com.twosigma.beakerx.kernel.msg.JupyterMessages;
@@ -33,14 +34,13 @@ import org.zeromq.ZMsg;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 
 import static com.twosigma.beakerx.kernel.msg.JupyterMessages.SHUTDOWN_REPLY;
 import static com.twosigma.beakerx.kernel.msg.JupyterMessages.SHUTDOWN_REQUEST;
-import static com.twosigma.beakerx.message.MessageSerializer.toJson;
+import static com.twosigma.beakerx.message.MessageSerializer.toJsonBytes;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
@@ -103,22 +103,29 @@ public class KernelSocketsZMQ extends KernelSockets {
   private synchronized void sendMsg(ZMQ.Socket socket, List<Message> messages) {
     if (!isShutdown()) {
       messages.forEach(message -> {
-        String header = toJson(message.getHeader());
-        String parent = toJson(message.getParentHeader());
-        String meta = toJson(message.getMetadata());
-        String content = toJson(message.getContent());
-        String digest = hmac.sign(Arrays.asList(header, parent, meta, content));
+        long start = KernelMetrics.start();
+        byte[] header = toJsonBytes(message.getHeader());
+        byte[] parent = toJsonBytes(message.getParentHeader());
+        byte[] meta = toJsonBytes(message.getMetadata());
+        byte[] content = toJsonBytes(message.getContent());
+        KernelMetrics.record(KernelMetrics.Stage.ENCODE, start);
+        String digest = hmac.signBytes(asList(header, parent, meta, content));
 
         ZMsg newZmsg = new ZMsg();
         message.getIdentities().forEach(newZmsg::add);
         newZmsg.add(DELIM);
         newZmsg.add(digest.getBytes(StandardCharsets.UTF_8));
-        newZmsg.add(header.getBytes(StandardCharsets.UTF_8));
-        newZmsg.add(parent.getBytes(StandardCharsets.UTF_8));
-        newZmsg.add(meta.getBytes(StandardCharsets.UTF_8));
-        newZmsg.add(content.getBytes(StandardCharsets.UTF_8));
+        newZmsg.add(header);
+        newZmsg.add(parent);
+        newZmsg.add(meta);
+        newZmsg.add(content);
         message.getBuffers().forEach(x -> newZmsg.add(x));
+        if (socket == iopubSocket && KernelMetrics.isEnabled()) {
+          KernelMetrics.iopub(message.getHeader().getType(), newZmsg.contentSize());
+        }
+        start = KernelMetrics.start();
         newZmsg.send(socket);
+        KernelMetrics.record(KernelMetrics.Stage.SEND, start);
       });
     }
   }
@@ -288,6 +295,6 @@ public class KernelSocketsZMQ extends KernelSockets {
   }
 
   private <T> T parse(byte[] bytes, Class<T> theClass) {
-    return bytes != null ? MessageSerializer.parse(new String(bytes, StandardCharsets.UTF_8), theClass) : null;
+    return bytes != null ? MessageSerializer.parse(bytes, theClass) : null;
   }
 }
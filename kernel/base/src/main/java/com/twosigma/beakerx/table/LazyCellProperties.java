@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.table;
+
+import com.twosigma.beakerx.chart.Color;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates tooltip and font color providers only for the rows the front end asks for,
+ * the most recently requested rows are kept in an LRU cache.
+ */
+class LazyCellProperties {
+
+  static final int CACHED_ROWS = 10000;
+
+  private final TableDisplay tableDisplay;
+  private TooltipAction tooltipProvider;
+  private FontColorProvider fontColorProvider;
+  private final Map<Integer, List<String>> tooltips = new LruCache<>(CACHED_ROWS);
+  private final Map<Integer, List<Color>> fontColors = new LruCache<>(CACHED_ROWS);
+
+  LazyCellProperties(TableDisplay tableDisplay) {
+    this.tableDisplay = tableDisplay;
+  }
+
+  synchronized void setTooltipProvider(TooltipAction tooltipProvider) {
+    this.tooltipProvider = tooltipProvider;
+    this.tooltips.clear();
+  }
+
+  synchronized void setFontColorProvider(FontColorProvider fontColorProvider) {
+    this.fontColorProvider = fontColorProvider;
+    this.fontColors.clear();
+  }
+
+  boolean hasTooltipProvider() {
+    return tooltipProvider != null;
+  }
+
+  boolean hasFontColorProvider() {
+    return fontColorProvider != null;
+  }
+
+  boolean isEmpty() {
+    return tooltipProvider == null && fontColorProvider == null;
+  }
+
+  synchronized List<String> getTooltips(int row) {
+    return tooltips.computeIfAbsent(row, r -> {
+      List<String> result = new ArrayList<>();
+      for (int col = 0; col < columnCount(); col++) {
+        result.add(tooltipProvider.apply(r, col, tableDisplay));
+      }
+      return result;
+    });
+  }
+
+  synchronized List<Color> getFontColors(int row) {
+    return fontColors.computeIfAbsent(row, r -> {
+      List<Color> result = new ArrayList<>();
+      for (int col = 0; col < columnCount(); col++) {
+        result.add(fontColorProvider.apply(r, col, tableDisplay));
+      }
+      return result;
+    });
+  }
+
+  private int columnCount() {
+    return tableDisplay.getColumnNames().size();
+  }
+
+  private static class LruCache<K, V> extends LinkedHashMap<K, V> {
+    private final int maxSize;
+
+    LruCache(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      return size() > maxSize;
+    }
+  }
+}
@@ -30,7 +30,18 @@ import com.twosigma.beakerx.table.highlight.ValueHighlighter;
 import com.twosigma.beakerx.table.renderer.TableDisplayCellRenderer;
 import com.twosigma.beakerx.widget.BeakerxWidget;
 import com.twosigma.beakerx.widget.RunWidgetClosure;
-
+import com.twosigma.beakerx.widget.SpillableWidget;
+import com.twosigma.beakerx.widget.WidgetDataStore;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -42,6 +53,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.twosigma.beakerx.table.TableDisplayToJson.serializeAlignmentForColumn;
 import static com.twosigma.beakerx.table.TableDisplayToJson.serializeAlignmentForType;
@@ -59,15 +72,20 @@ import static com.twosigma.beakerx.table.TableDisplayToJson.serializeHeaderFontS
 import static com.twosigma.beakerx.table.TableDisplayToJson.serializeHeadersVertical;
 import static com.twosigma.beakerx.table.TableDisplayToJson.serializeRendererForColumn;
 import static com.twosigma.beakerx.table.TableDisplayToJson.serializeRendererForType;
+import static com.twosigma.beakerx.table.TableDisplayToJson.serializeCellProperties;
+import static com.twosigma.beakerx.table.TableDisplayToJson.serializeRowsAppended;
 import static com.twosigma.beakerx.table.TableDisplayToJson.serializeStringFormatForColumn;
 import static com.twosigma.beakerx.table.TableDisplayToJson.serializeStringFormatForType;
 import static com.twosigma.beakerx.table.TableDisplayToJson.serializeTimeZone;
 import static com.twosigma.beakerx.table.TableDisplayToJson.serializeTooltips;
 import static com.twosigma.beakerx.util.Preconditions.checkState;
 import static com.twosigma.beakerx.widget.CompiledCodeRunner.runCompiledCode;
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.APPEND_ROWS;
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.CELL_PROPERTIES;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 
-public class TableDisplay extends BeakerxWidget {
+public class TableDisplay extends BeakerxWidget implements SpillableWidget {
 
   public static final String VIEW_NAME_VALUE = "TableDisplayView";
   public static final String MODEL_NAME_VALUE = "TableDisplayModel";
@@ -77,8 +95,10 @@ public class TableDisplay extends BeakerxWidget {
   public static final String MATRIX_SUBTYPE = "Matrix";
   public static final String DICTIONARY_SUBTYPE = "Dictionary";
   public static final String THE_LENGTH_OF_TYPES_SHOULD_BE_SAME_AS_NUMBER_OF_ROWS = "The length of types should be same as number of rows.";
+  private static final int FOOTPRINT_SAMPLE_ROWS = 1000;
 
-  private final List<List<?>> values;
+  private List<List<?>> values;
+  private File spillFile;
   private List<String> columns;
   private final List<String> classes;
   private String subtype;
@@ -98,10 +118,11 @@ public class TableDisplay extends BeakerxWidget {
   private Integer dataFontSize;
   private Integer headerFontSize;
   private List<List<Color>> fontColor = new ArrayList<>();
-  private List<List<?>> filteredValues;
+  private int[] filteredRows;
   private boolean headersVertical;
   private String hasIndex;
   private String timeZone;
+  private Integer maxRows;
 
   private Object doubleClickListener;
   private String doubleClickTag;
@@ -109,8 +130,10 @@ public class TableDisplay extends BeakerxWidget {
   private Map<String, String> contextMenuTags = new HashMap<>();
   private TableActionDetails details;
   private TableDisplayActions displayActions = new TableDisplayActions(this);
+  private LazyCellProperties lazyCellProperties = new LazyCellProperties(this);
 
   public int ROWS_LIMIT = 100000;
+  public int LAZY_CELL_PROPERTIES_LIMIT = 10000;
   public int ROW_LIMIT_TO_INDEX = 10000;
   private String rowLimitMsg = "Note: table is too big to display.\n" +
           "      The limit is %s rows, but this table has %s rows. \n" +
@@ -237,7 +260,7 @@ public class TableDisplay extends BeakerxWidget {
   }
 
   private void addToValues(List<List<?>> items) {
-    values.addAll(items);
+    values().addAll(items);
   }
 
   private List<List<?>> buildValuesFromList(List<List<?>> v, BasicObjectSerializer basicObjectSerializer) {
@@ -283,10 +306,13 @@ public class TableDisplay extends BeakerxWidget {
 
   @Override
   protected void openComm() {
+    getComm().addMsgCallbackList((Handler<Message>) message -> WidgetDataStore.getInstance().touch(this));
     super.openComm();
+    WidgetDataStore.getInstance().register(this);
     getComm().addMsgCallbackList((Handler<Message>) message -> displayActions.handleSetDetails(message));
     getComm().addMsgCallbackList((Handler<Message>) message -> displayActions.handleOnContextMenu(message));
     getComm().addMsgCallbackList((Handler<Message>) message -> displayActions.handleDoubleClick(message));
+    getComm().addMsgCallbackList((Handler<Message>) message -> displayActions.handleCellProperties(message));
   }
 
   public TimeUnit getStringFormatForTimes() {
@@ -324,10 +350,11 @@ public class TableDisplay extends BeakerxWidget {
     if (colIndex == -1) {
       throw new IllegalArgumentException("Column " + column + " doesn't exist");
     }
+    List<List<?>> values = values();
     List<String> formattedValues = new ArrayList<>();
     try {
-      for (int row = 0; row < this.values.size(); row++) {
-        Object value = this.values.get(row).get(colIndex);
+      for (int row = 0; row < values.size(); row++) {
+        Object value = values.get(row).get(colIndex);
         Object[] params = new Object[]{value, row, colIndex, this};
         formattedValues.add((String) runClosure(closure, params));
       }
@@ -416,12 +443,13 @@ public class TableDisplay extends BeakerxWidget {
 
   public void addCellHighlighter(Object closure) {
     Map<String, List<Color>> colors = new HashMap<>();
+    List<List<?>> values = values();
     try {
-      int rowSize = this.values.get(0).size();
+      int rowSize = values.get(0).size();
       for (int colInd = 0; colInd < rowSize; colInd++) {
         boolean hasHighlightedValues = false;
         List<Color> columnColors = new ArrayList<>();
-        for (int rowInd = 0; rowInd < this.values.size(); rowInd++) {
+        for (int rowInd = 0; rowInd < values.size(); rowInd++) {
           Object[] params = new Object[]{rowInd, colInd, this};
           Color color = (Color) runClosure(closure, params);
           if (color != null) {
@@ -440,12 +468,13 @@ public class TableDisplay extends BeakerxWidget {
 
   public void addCellHighlighter(CellHighlighter cellHighlighter) {
     Map<String, List<Color>> colors = new HashMap<>();
+    List<List<?>> values = values();
     try {
-      int rowSize = this.values.get(0).size();
+      int rowSize = values.get(0).size();
       for (int colInd = 0; colInd < rowSize; colInd++) {
         boolean hasHighlightedValues = false;
         List<Color> columnColors = new ArrayList<>();
-        for (int rowInd = 0; rowInd < this.values.size(); rowInd++) {
+        for (int rowInd = 0; rowInd < values.size(); rowInd++) {
           Color color = cellHighlighter.apply(rowInd, colInd, this);
           if (color != null) {
             hasHighlightedValues = true;
@@ -472,26 +501,29 @@ public class TableDisplay extends BeakerxWidget {
   }
 
   public void setToolTip(Object closure) {
-    try {
-      for (int rowInd = 0; rowInd < this.values.size(); rowInd++) {
-        List<?> row = this.values.get(rowInd);
-        List<String> rowToolTips = new ArrayList<>();
-        for (int colInd = 0; colInd < row.size(); colInd++) {
-          Object[] params = new Object[]{rowInd, colInd, this};
-          rowToolTips.add((String) runClosure(closure, params));
-        }
-        tooltips.add(rowToolTips);
+    setTooltip((rowInd, colInd, table) -> {
+      try {
+        return (String) runClosure(closure, new Object[]{rowInd, colInd, table});
+      } catch (Exception e) {
+        throw new RuntimeException(e);
       }
-    } catch (Throwable e) {
-      throw new IllegalArgumentException("Can not set tooltip using closure.", e);
-    }
-    sendModelUpdate(serializeTooltips(this.tooltips));
+    });
   }
 
+  /**
+   * Tables above LAZY_CELL_PROPERTIES_LIMIT rows evaluate the tooltip only for rows the front end displays.
+   */
   public void setTooltip(TooltipAction tooltip) {
+    if (isLazyCellProperties()) {
+      this.tooltips = new ArrayList<>();
+      lazyCellProperties.setTooltipProvider(tooltip);
+      sendModel();
+      return;
+    }
+    List<List<?>> values = values();
     try {
-      for (int rowInd = 0; rowInd < this.values.size(); rowInd++) {
-        List<?> row = this.values.get(rowInd);
+      for (int rowInd = 0; rowInd < values.size(); rowInd++) {
+        List<?> row = values.get(rowInd);
         List<String> rowToolTips = new ArrayList<>();
         for (int colInd = 0; colInd < row.size(); colInd++) {
           rowToolTips.add(tooltip.apply(rowInd, colInd, this));
@@ -531,26 +563,29 @@ public class TableDisplay extends BeakerxWidget {
   }
 
   public void setFontColorProvider(Object closure) {
-    try {
-      for (int rowInd = 0; rowInd < this.values.size(); rowInd++) {
-        List<?> row = this.values.get(rowInd);
-        List<Color> rowFontColors = new ArrayList<>();
-        for (int colInd = 0; colInd < row.size(); colInd++) {
-          Object[] params = new Object[]{rowInd, colInd, this};
-          rowFontColors.add((Color) runClosure(closure, params));
-        }
-        this.fontColor.add(rowFontColors);
+    setFontColorProvider((FontColorProvider) (rowInd, colInd, table) -> {
+      try {
+        return (Color) runClosure(closure, new Object[]{rowInd, colInd, table});
+      } catch (Exception e) {
+        throw new RuntimeException(e);
       }
-    } catch (Throwable e) {
-      throw new IllegalArgumentException("Can not set font color using closure.", e);
-    }
-    sendModelUpdate(serializeFontColor(this.fontColor));
+    });
   }
 
+  /**
+   * Tables above LAZY_CELL_PROPERTIES_LIMIT rows evaluate the font color only for rows the front end displays.
+   */
   public void setFontColorProvider(FontColorProvider fontColorProvider) {
+    if (isLazyCellProperties()) {
+      this.fontColor = new ArrayList<>();
+      lazyCellProperties.setFontColorProvider(fontColorProvider);
+      sendModel();
+      return;
+    }
+    List<List<?>> values = values();
     try {
-      for (int rowInd = 0; rowInd < this.values.size(); rowInd++) {
-        List<?> row = this.values.get(rowInd);
+      for (int rowInd = 0; rowInd < values.size(); rowInd++) {
+        List<?> row = values.get(rowInd);
         List<Color> rowFontColors = new ArrayList<>();
         for (int colInd = 0; colInd < row.size(); colInd++) {
           rowFontColors.add(fontColorProvider.apply(rowInd, colInd, this));
@@ -563,35 +598,57 @@ public class TableDisplay extends BeakerxWidget {
     sendModelUpdate(serializeFontColor(this.fontColor));
   }
 
-  public void setRowFilter(Object closure) {
-    List<List<?>> filteredValues = new ArrayList<>();
-    try {
-      for (int rowInd = 0; rowInd < this.values.size(); rowInd++) {
-        Object[] params = new Object[]{rowInd, this.values};
-        if ((boolean) runClosure(closure, params)) {
-          filteredValues.add(values.get(rowInd));
-        }
+  public boolean isLazyCellProperties() {
+    return values().size() > LAZY_CELL_PROPERTIES_LIMIT;
+  }
+
+  public boolean hasLazyCellProperties() {
+    return !lazyCellProperties.isEmpty();
+  }
+
+  void sendCellProperties(List<Integer> rows) {
+    List<List<?>> values = values();
+    List<Integer> validRows = rows.stream()
+            .filter(row -> row >= 0 && row < values.size())
+            .collect(Collectors.toList());
+    List<List<String>> rowTooltips = new ArrayList<>();
+    List<List<Color>> rowFontColors = new ArrayList<>();
+    for (Integer row : validRows) {
+      if (lazyCellProperties.hasTooltipProvider()) {
+        rowTooltips.add(lazyCellProperties.getTooltips(row));
+      }
+      if (lazyCellProperties.hasFontColorProvider()) {
+        rowFontColors.add(lazyCellProperties.getFontColors(row));
       }
-    } catch (Throwable e) {
-      throw new IllegalArgumentException("Can not set row filter using closure.", e);
     }
-    this.filteredValues = filteredValues;
-    sendModelUpdate(serializeFilteredValues(this.filteredValues));
+    sendModelDelta(CELL_PROPERTIES, serializeCellProperties(validRows, rowTooltips, rowFontColors));
   }
 
+  public void setRowFilter(Object closure) {
+    setRowFilter((RowFilter) (rowInd, rows) -> {
+      try {
+        return (boolean) runClosure(closure, new Object[]{rowInd, rows});
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  /**
+   * Keeps only the indices of matching rows, a PureRowFilter is evaluated in parallel.
+   */
   public void setRowFilter(RowFilter rowFilter) {
-    List<List<?>> filteredValues = new ArrayList<>();
+    List<List<?>> values = values();
+    IntStream rows = IntStream.range(0, values.size());
+    if (rowFilter instanceof PureRowFilter) {
+      rows = rows.parallel();
+    }
     try {
-      for (int rowInd = 0; rowInd < this.values.size(); rowInd++) {
-        if (rowFilter.apply(rowInd, this.values)) {
-          filteredValues.add(values.get(rowInd));
-        }
-      }
+      this.filteredRows = rows.filter(rowInd -> rowFilter.apply(rowInd, values)).toArray();
     } catch (Throwable e) {
       throw new IllegalArgumentException("Can not set row filter using closure.", e);
     }
-    this.filteredValues = filteredValues;
-    sendModelUpdate(serializeFilteredValues(this.filteredValues));
+    sendModelUpdate(serializeFilteredValues(getFilteredValuesForSerializer()));
   }
 
   public void setHeadersVertical(boolean headersVertical) {
@@ -622,6 +679,35 @@ public class TableDisplay extends BeakerxWidget {
   }
 
   public List<List<?>> getFilteredValues() {
+    if (filteredRows == null) {
+      return null;
+    }
+    List<List<?>> values = values();
+    return new AbstractList<List<?>>() {
+      @Override
+      public List<?> get(int index) {
+        return values.get(filteredRows[index]);
+      }
+
+      @Override
+      public int size() {
+        return filteredRows.length;
+      }
+    };
+  }
+
+  public int[] getFilteredRows() {
+    return filteredRows;
+  }
+
+  /**
+   * Filtered rows above ROWS_LIMIT are cut to ROW_LIMIT_TO_INDEX like the values are.
+   */
+  public List<List<?>> getFilteredValuesForSerializer() {
+    List<List<?>> filteredValues = getFilteredValues();
+    if (filteredValues != null && filteredValues.size() > ROWS_LIMIT) {
+      return filteredValues.subList(0, ROW_LIMIT_TO_INDEX);
+    }
     return filteredValues;
   }
 
@@ -656,15 +742,15 @@ public class TableDisplay extends BeakerxWidget {
   }
 
   public List<Map<String, Object>> getValuesAsRows() {
-    return getValuesAsRows(values, columns);
+    return getValuesAsRows(values(), columns);
   }
 
   public List<List<?>> getValuesAsMatrix() {
-    return getValuesAsMatrix(values);
+    return getValuesAsMatrix(values());
   }
 
   public Map<String, Object> getValuesAsDictionary() {
-    return getValuesAsDictionary(values);
+    return getValuesAsDictionary(values());
   }
 
   private Object getValueForSerializer(Object value, BeakerObjectConverter serializer) {
@@ -679,7 +765,53 @@ public class TableDisplay extends BeakerxWidget {
   }
 
   public List<List<?>> getValues() {
-    return values;
+    WidgetDataStore.getInstance().touch(this);
+    return values();
+  }
+
+  public void appendRow(List<?> row) {
+    appendRows(singletonList(row));
+  }
+
+  /**
+   * Appends rows to the end of the table and sends only the new rows to the front end.
+   * When maxRows is set the oldest rows are dropped, so the table works as a rolling window.
+   */
+  public void appendRows(List<List<?>> rows) {
+    WidgetDataStore.getInstance().touch(this);
+    checkState(filteredRows == null && tooltips.isEmpty() && fontColor.isEmpty() && lazyCellProperties.isEmpty(),
+            "Rows can not be appended to a table with row filter, tooltips or font colors.");
+    for (List<?> row : rows) {
+      checkState(row.size() == columns.size(), "The length of row should be same as number of columns.");
+    }
+    List<List<?>> newRows = buildValuesFromList(rows, new BasicObjectSerializer());
+    addToValues(newRows);
+    trimToMaxRows();
+    if (values().size() > ROWS_LIMIT) {
+      sendModel();
+    } else {
+      sendModelDelta(APPEND_ROWS, serializeRowsAppended(newRows, this.maxRows));
+    }
+  }
+
+  public Integer getMaxRows() {
+    return maxRows;
+  }
+
+  public void setMaxRows(Integer maxRows) {
+    this.maxRows = maxRows;
+    if (trimToMaxRows()) {
+      sendModel();
+    }
+  }
+
+  private boolean trimToMaxRows() {
+    List<List<?>> values = values();
+    if (maxRows != null && values.size() > maxRows) {
+      values.subList(0, values.size() - maxRows).clear();
+      return true;
+    }
+    return false;
   }
 
   public List<String> getColumnNames() {
@@ -780,7 +912,8 @@ public class TableDisplay extends BeakerxWidget {
 
   @Override
   protected Map serializeToJsonObject() {
-    return TableDisplayToJson.toJson(this);
+    WidgetDataStore.getInstance().touch(this);
+    return TableDisplayToJson.toStreamingJson(this);
   }
 
   @Override
@@ -789,7 +922,7 @@ public class TableDisplay extends BeakerxWidget {
   }
 
   public String getRowLimitMsg() {
-    return String.format(rowLimitMsg, ROWS_LIMIT, values.size(), ROW_LIMIT_TO_INDEX);
+    return String.format(rowLimitMsg, ROWS_LIMIT, values().size(), ROW_LIMIT_TO_INDEX);
   }
 
   public interface Element {
@@ -798,8 +931,9 @@ public class TableDisplay extends BeakerxWidget {
 
   @SuppressWarnings("unchecked")
   public void updateCell(int row, String columnName, Object value) {
+    WidgetDataStore.getInstance().touch(this);
     int index = getColumnIndex(columnName);
-    List<Object> rowList = (List<Object>) values.get(row);
+    List<Object> rowList = (List<Object>) values().get(row);
     rowList.set(index, value);
   }
 
@@ -814,4 +948,76 @@ public class TableDisplay extends BeakerxWidget {
   public void setRowLimitMsg(String rowLimitMsg) {
     this.rowLimitMsg = rowLimitMsg;
   }
+
+  /**
+   * Sizes of the first rows are extrapolated to the whole table.
+   */
+  @Override
+  public long estimateFootprint() {
+    List<List<?>> values = values();
+    int sampleSize = Math.min(values.size(), FOOTPRINT_SAMPLE_ROWS);
+    long sampleBytes = 0;
+    for (int rowInd = 0; rowInd < sampleSize; rowInd++) {
+      List<?> row = values.get(rowInd);
+      sampleBytes += 16 + 8L * row.size();
+      for (Object value : row) {
+        sampleBytes += estimateValueSize(value);
+      }
+    }
+    return sampleSize == 0 ? 0 : sampleBytes * values.size() / sampleSize;
+  }
+
+  private static long estimateValueSize(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof String) {
+      return 40 + 2L * ((String) value).length();
+    }
+    if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+      return 24;
+    }
+    return 64;
+  }
+
+  /**
+   * Drops the reference to the rows after writing them, so lists handed out by getValues stay intact.
+   */
+  @Override
+  public synchronized void spill(File file) throws IOException {
+    try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeObject(values);
+    }
+    values = null;
+    spillFile = file;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized void restore(File file) throws IOException {
+    if (values != null) {
+      return;
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      values = (List<List<?>>) in.readObject();
+      spillFile = null;
+    } catch (ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * All reads of the rows go through here, a spilled table is read back first.
+   */
+  private synchronized List<List<?>> values() {
+    if (values == null) {
+      try {
+        restore(spillFile);
+      } catch (IOException e) {
+        throw new IllegalStateException("Could not restore table data from " + spillFile, e);
+      }
+      WidgetDataStore.getInstance().touch(this);
+    }
+    return values;
+  }
 }
@@ -119,6 +119,19 @@ public class TableDisplayActions {
     tableDisplay.fireDoubleClick(params, message);
   }
 
+  void handleCellProperties(Message message) {
+    if (isCorrectEvent(message, CommActions.CELL_PROPERTIES)) {
+      tableDisplay.handleCommEventSync(message, CommActions.CELL_PROPERTIES, this::onCellProperties);
+    }
+  }
+
+  private void onCellProperties(HashMap content, Message message) {
+    List<Integer> rows = (List<Integer>) content.get("rows");
+    if (rows != null) {
+      tableDisplay.sendCellProperties(rows);
+    }
+  }
+
   void handleOnContextMenu(Message message) {
     if (isCorrectEvent(message, CommActions.CONTEXT_MENU_CLICK)) {
       tableDisplay.handleCommEventSync(message, CommActions.CONTEXT_MENU_CLICK, this::onContextMenu);
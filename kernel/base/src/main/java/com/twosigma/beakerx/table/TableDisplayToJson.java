@@ -46,6 +46,7 @@ import com.twosigma.beakerx.table.serializer.TimeStringFormatSerializer;
 import com.twosigma.beakerx.table.serializer.UniqueEntriesHighlighterSerializer;
 import com.twosigma.beakerx.table.serializer.ValueHighlighterSerializer;
 import com.twosigma.beakerx.table.serializer.ValueStringFormatSerializer;
+import com.twosigma.beakerx.widget.StreamingModel;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -70,12 +71,15 @@ import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.FONT_
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.HAS_INDEX;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.HEADERS_VERTICAL;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.HEADER_FONT_SIZE;
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.MAX_ROWS;
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.ROWS;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.RENDERER_FOR_COLUMN;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.RENDERER_FOR_TYPE;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.STRING_FORMAT_FOR_COLUMN;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.STRING_FORMAT_FOR_TYPE;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.TIME_ZONE;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.TOOLTIPS;
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.VALUES;
 
 public class TableDisplayToJson {
 
@@ -110,6 +114,10 @@ public class TableDisplayToJson {
     return mapper.convertValue(item, Map.class);
   }
 
+  public static Map toStreamingJson(Object item) {
+    return new StreamingModel(item, mapper);
+  }
+
   public static List toJsonList(Object item) {
     return mapper.convertValue(item, List.class);
   }
@@ -266,6 +274,21 @@ public class TableDisplayToJson {
     return value;
   }
 
+  static Map<String, Object> serializeCellProperties(List<Integer> rows, List<List<String>> tooltips, List<List<Color>> fontColors) {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put(ROWS, rows);
+    value.put(TOOLTIPS, toJsonList(tooltips));
+    value.put(FONT_COLOR, serializeFontColor(fontColors).get(FONT_COLOR));
+    return value;
+  }
+
+  static Map<String, Object> serializeRowsAppended(List<List<?>> rows, Integer maxRows) {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put(VALUES, toJsonList(rows));
+    value.put(MAX_ROWS, maxRows);
+    return value;
+  }
+
   static Map<Object, Object> serializeHeadersVertical(boolean headersVertical) {
     Map<Object, Object> value = new LinkedHashMap<>();
     value.put(HEADERS_VERTICAL, headersVertical);
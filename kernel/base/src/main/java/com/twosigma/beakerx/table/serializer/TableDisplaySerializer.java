@@ -46,6 +46,11 @@ public class TableDisplaySerializer extends ObservableTableDisplaySerializer<Tab
   public static final String TABLE_DISPLAY = "TableDisplay";
   public static final String CELL_HIGHLIGHTERS = "cellHighlighters";
   public static final String TOOLTIPS = "tooltips";
+  public static final String APPEND_ROWS = "appendRows";
+  public static final String MAX_ROWS = "maxRows";
+  public static final String CELL_PROPERTIES = "cellProperties";
+  public static final String LAZY_CELL_PROPERTIES = "lazyCellProperties";
+  public static final String ROWS = "rows";
 
   @Override
   public void serialize(TableDisplay value,
@@ -75,8 +80,11 @@ public class TableDisplaySerializer extends ObservableTableDisplaySerializer<Tab
       jgen.writeObjectField(DATA_FONT_SIZE, value.getDataFontSize());
       jgen.writeObjectField(HEADER_FONT_SIZE, value.getHeaderFontSize());
       jgen.writeObjectField(FONT_COLOR, value.getFontColor());
+      if (value.hasLazyCellProperties()) {
+        jgen.writeBooleanField(LAZY_CELL_PROPERTIES, true);
+      }
       if (value.getFilteredValues() != null) {
-        jgen.writeObjectField(FILTERED_VALUES, value.getFilteredValues());
+        jgen.writeObjectField(FILTERED_VALUES, value.getFilteredValuesForSerializer());
       }
       jgen.writeBooleanField(HEADERS_VERTICAL, value.getHeadersVertical());
       jgen.writeObjectField(HAS_INDEX, value.getHasIndex());
@@ -0,0 +1,220 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * Package index of a class loader, shared by import validation, autocompletion and the classpath scanner.
+ * Jars are scanned once when they show up on the class path, directories are rescanned on every query
+ * because evaluators write classes into them. Jar listings are cached by path and modification time.
+ */
+public class ClassPathIndex {
+
+  public static final String SERVICES = "META-INF/services/";
+
+  private static final Map<ClassLoader, ClassPathIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+  private static final Map<String, JarListing> JARS = new ConcurrentHashMap<>();
+
+  private final WeakReference<ClassLoader> classLoader;
+  private final Set<URI> scannedJars = new HashSet<>();
+  private final Set<File> directories = new HashSet<>();
+  private final NavigableSet<String> jarPackages = new TreeSet<>();
+  private final Map<String, Integer> services = new HashMap<>();
+
+  private ClassPathIndex(ClassLoader classLoader) {
+    this.classLoader = new WeakReference<>(classLoader);
+  }
+
+  public static ClassPathIndex of(ClassLoader classLoader) {
+    return INDEXES.computeIfAbsent(classLoader, ClassPathIndex::new);
+  }
+
+  public static void jarAdded(ClassLoader classLoader, URL url) {
+    ClassPathIndex index = INDEXES.get(classLoader);
+    if (index != null) {
+      try {
+        index.add(url.toURI());
+      } catch (URISyntaxException e) {
+        throw new IllegalArgumentException(e);
+      }
+    }
+  }
+
+  public synchronized boolean packageExists(String packageName) {
+    refresh();
+    return hasPackage(jarPackages, packageName) || hasPackage(directoryPackages(), packageName);
+  }
+
+  public synchronized int serviceProviders(String service) {
+    refresh();
+    return services.getOrDefault(SERVICES + service, 0);
+  }
+
+  private static boolean hasPackage(NavigableSet<String> packages, String packageName) {
+    String candidate = packages.ceiling(packageName);
+    return candidate != null && (candidate.equals(packageName) || candidate.startsWith(packageName + "."));
+  }
+
+  private void refresh() {
+    ClassLoader loader = classLoader.get();
+    if (loader != null) {
+      ClassPath.getClassPathEntries(loader).keySet().forEach(this::add);
+    }
+  }
+
+  private synchronized void add(URI uri) {
+    if (!uri.getScheme().equals("file")) {
+      return;
+    }
+    File file = new File(uri);
+    if (file.isDirectory()) {
+      directories.add(file);
+    } else if (file.exists() && scannedJars.add(uri)) {
+      JarListing listing = listJar(file);
+      listing.getEntries().forEach(this::addJarEntry);
+      listing.getManifestClassPath().forEach(path -> {
+        try {
+          add(ClassPath.Scanner.getClassPathEntry(file, path));
+        } catch (URISyntaxException e) {
+          // Ignore bad entry
+        }
+      });
+    }
+  }
+
+  private void addJarEntry(String entry) {
+    if (entry.startsWith(SERVICES)) {
+      services.merge(entry, 1, Integer::sum);
+    }
+    jarPackages.add(packageOf(entry));
+  }
+
+  private NavigableSet<String> directoryPackages() {
+    NavigableSet<String> packages = new TreeSet<>();
+    ClassLoader loader = classLoader.get();
+    if (loader == null) {
+      return packages;
+    }
+    ClassPath.Scanner scanner = new ClassPath.Scanner();
+    for (File directory : directories) {
+      try {
+        scanner.scanFrom(directory, loader);
+      } catch (IOException e) {
+        // IO error, just skip the directory
+      }
+    }
+    scanner.getResources().forEach(resource -> packages.add(packageOf(resource.getResourceName())));
+    return packages;
+  }
+
+  private static String packageOf(String resourceName) {
+    int lastSlash = resourceName.lastIndexOf('/');
+    return (lastSlash < 0) ? "" : resourceName.substring(0, lastSlash).replace('/', '.');
+  }
+
+  public static JarListing listJar(File jar) {
+    String key = jar.getAbsolutePath();
+    JarListing listing = JARS.get(key);
+    if (listing == null || !listing.isUpToDate(jar)) {
+      listing = JarListing.of(jar);
+      JARS.put(key, listing);
+    }
+    return listing;
+  }
+
+  public static class JarListing {
+
+    private static final JarListing EMPTY = new JarListing(0, 0, Collections.emptyList(), Collections.emptyList());
+
+    private final long lastModified;
+    private final long length;
+    private final List<String> entries;
+    private final List<String> manifestClassPath;
+
+    private JarListing(long lastModified, long length, List<String> entries, List<String> manifestClassPath) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.entries = entries;
+      this.manifestClassPath = manifestClassPath;
+    }
+
+    static JarListing of(File file) {
+      try (JarFile jar = new JarFile(file)) {
+        List<String> entries = new ArrayList<>();
+        Enumeration<JarEntry> jarEntries = jar.entries();
+        while (jarEntries.hasMoreElements()) {
+          JarEntry entry = jarEntries.nextElement();
+          if (!entry.isDirectory() && !entry.getName().equals(JarFile.MANIFEST_NAME)) {
+            entries.add(entry.getName());
+          }
+        }
+        return new JarListing(file.lastModified(), file.length(), entries, manifestClassPath(jar.getManifest()));
+      } catch (IOException e) {
+        // Not a jar file
+        return EMPTY;
+      }
+    }
+
+    private static List<String> manifestClassPath(Manifest manifest) {
+      if (manifest == null) {
+        return Collections.emptyList();
+      }
+      String classpathAttribute = manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH.toString());
+      if (classpathAttribute == null || classpathAttribute.trim().isEmpty()) {
+        return Collections.emptyList();
+      }
+      List<String> result = new ArrayList<>();
+      for (String path : classpathAttribute.trim().split(" +")) {
+        result.add(path);
+      }
+      return result;
+    }
+
+    boolean isUpToDate(File file) {
+      return this != EMPTY && file.lastModified() == lastModified && file.length() == length;
+    }
+
+    public List<String> getEntries() {
+      return entries;
+    }
+
+    public List<String> getManifestClassPath() {
+      return manifestClassPath;
+    }
+  }
+}
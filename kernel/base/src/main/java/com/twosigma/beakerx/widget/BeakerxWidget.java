@@ -15,12 +15,19 @@
  */
 package com.twosigma.beakerx.widget;
 
+import com.twosigma.beakerx.kernel.comm.Comm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.twosigma.beakerx.kernel.msg.JupyterMessages.COMM_MSG;
+import static java.util.Collections.singleton;
 
 public abstract class BeakerxWidget extends Widget {
 
@@ -30,9 +37,18 @@ public abstract class BeakerxWidget extends Widget {
   public static final String VIEW_MODULE_VALUE = "beakerx";
   public static final String MODEL = "model";
   public static final String MODEL_UPDATE = "updateData";
+  public static final String CUSTOM = "custom";
+  public static final String CONTENT = "content";
+  public static final String EVENT = "event";
   private UpdateModel updateModel = (action, item) -> {
     //empty function
   };
+  private ModelDelta modelDelta = (event, delta) -> {
+    //empty function
+  };
+  private int batchDepth = 0;
+  private boolean modelPending = false;
+  private Map<Object, Supplier<Map>> pendingModelUpdates = new LinkedHashMap<>();
 
   protected abstract Map serializeToJsonObject();
 
@@ -57,26 +73,107 @@ public abstract class BeakerxWidget extends Widget {
     return BeakerxWidget.VIEW_MODULE_VALUE;
   }
 
+  /**
+   * Runs the given updates and sends all model changes they make as one merged update message.
+   * Properties changed more than once are serialized only once, with their final value.
+   */
+  public void batch(Runnable updates) {
+    batchDepth++;
+    try {
+      updates.run();
+    } finally {
+      batchDepth--;
+      if (batchDepth == 0) {
+        flushModelUpdates();
+      }
+    }
+  }
+
+  protected boolean isBatching() {
+    return batchDepth > 0;
+  }
+
+  private void flushModelUpdates() {
+    if (modelPending) {
+      modelPending = false;
+      pendingModelUpdates.clear();
+      sendModel();
+    } else if (!pendingModelUpdates.isEmpty()) {
+      Map<Object, Object> merged = new LinkedHashMap<>();
+      pendingModelUpdates.values().forEach(update -> merged.putAll(update.get()));
+      pendingModelUpdates.clear();
+      this.updateModel.update(MODEL_UPDATE, merged);
+    }
+  }
+
   protected void sendModel() {
+    if (isBatching()) {
+      modelPending = true;
+      return;
+    }
     this.updateModel.update(MODEL, serializeToJsonObject());
   }
 
   protected void sendModelUpdate(Object item) {
+    if (isBatching()) {
+      Object key = (item instanceof Map) ? new HashSet<>(((Map) item).keySet()) : item;
+      pendingModelUpdates.put(key, () -> serializeToJsonObject(item));
+      return;
+    }
     this.updateModel.update(MODEL_UPDATE, serializeToJsonObject(item));
   }
 
+  /**
+   * Sends an update of a single property, the item is only created when the update is sent,
+   * so within a batch an expensive property is serialized once no matter how often it changes.
+   */
+  protected void sendModelUpdate(String property, Supplier<?> item) {
+    if (isBatching()) {
+      pendingModelUpdates.put(singleton(property), () -> serializeToJsonObject(item.get()));
+      return;
+    }
+    this.updateModel.update(MODEL_UPDATE, serializeToJsonObject(item.get()));
+  }
+
   protected void sendModelUpdate() {
+    if (isBatching()) {
+      pendingModelUpdates.clear();
+      pendingModelUpdates.put(MODEL_UPDATE, this::serializeToJsonObject);
+      return;
+    }
     this.updateModel.update(MODEL_UPDATE, serializeToJsonObject());
   }
 
+  /**
+   * Sends a change which the front end applies on top of the model it already has, e.g. appended points,
+   * as a custom comm message. Only the delta travels and the widget state does not grow with it.
+   */
+  protected void sendModelDelta(String event, Map<String, Object> delta) {
+    this.modelDelta.send(event, delta);
+  }
+
+  private void sendCustomMessage(String event, Map<String, Object> delta) {
+    HashMap<String, Object> body = new HashMap<>(delta);
+    body.put(EVENT, event);
+    HashMap<String, Serializable> content = new HashMap<>();
+    content.put(METHOD, CUSTOM);
+    content.put(CONTENT, body);
+    getComm().send(COMM_MSG, Comm.Buffer.EMPTY, new Comm.Data(content));
+  }
+
   private void enableModelUpdate() {
     updateModel = (action, item) -> sendUpdate(action, item);
+    modelDelta = this::sendCustomMessage;
   }
 
   interface UpdateModel {
     void update(String action, Object item);
   }
 
+  interface ModelDelta {
+    void send(String event, Map<String, Object> delta);
+  }
+
   @Override
   public void activateWidgetInContainer() {
     beforeDisplay();
@@ -22,6 +22,7 @@ public enum CommActions {
   ONKEY("onkey"),
   ACTIONDETAILS("actiondetails"),
   CONTEXT_MENU_CLICK("CONTEXT_MENU_CLICK"),
+  CELL_PROPERTIES("CELL_PROPERTIES"),
   CLICK("click");
 
   private String action;
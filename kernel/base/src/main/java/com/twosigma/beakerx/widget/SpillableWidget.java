@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.widget;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Widget whose data {@link WidgetDataStore} can move to disk while it is not used.
+ */
+public interface SpillableWidget extends CommFunctionality {
+
+  /**
+   * Rough size of the data in bytes.
+   */
+  long estimateFootprint();
+
+  /**
+   * Writes the data to the file and drops the widget's reference to it, nothing is dropped when writing fails.
+   * Spill and restore run holding the lock of the widget.
+   */
+  void spill(File file) throws IOException;
+
+  /**
+   * Reads the data back, does nothing when the widget already did it on its own.
+   */
+  void restore(File file) throws IOException;
+}
@@ -0,0 +1,223 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.widget;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Widget model which Jackson writes straight from the widget serializers into the outgoing message,
+ * without building an intermediate Map tree. The entries are only built when something in the kernel reads
+ * or changes them, Java serialization writes a plain LinkedHashMap.
+ */
+@JsonSerialize(using = StreamingModel.StreamingModelSerializer.class)
+public class StreamingModel extends LinkedHashMap<Object, Object> {
+
+  private final transient Object item;
+  private final transient ObjectMapper mapper;
+  private boolean materialized;
+
+  public StreamingModel(Object item, ObjectMapper mapper) {
+    this.item = item;
+    this.mapper = mapper;
+  }
+
+  private void materialize() {
+    if (!materialized) {
+      materialized = true;
+      super.putAll(mapper.convertValue(item, Map.class));
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<Object, Object>> entrySet() {
+    materialize();
+    return super.entrySet();
+  }
+
+  @Override
+  public Set<Object> keySet() {
+    materialize();
+    return super.keySet();
+  }
+
+  @Override
+  public Collection<Object> values() {
+    materialize();
+    return super.values();
+  }
+
+  @Override
+  public Object get(Object key) {
+    materialize();
+    return super.get(key);
+  }
+
+  @Override
+  public Object getOrDefault(Object key, Object defaultValue) {
+    materialize();
+    return super.getOrDefault(key, defaultValue);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    materialize();
+    return super.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    materialize();
+    return super.containsValue(value);
+  }
+
+  @Override
+  public int size() {
+    materialize();
+    return super.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    materialize();
+    return super.isEmpty();
+  }
+
+  @Override
+  public Object put(Object key, Object value) {
+    materialize();
+    return super.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<?, ?> m) {
+    materialize();
+    super.putAll(m);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    materialize();
+    return super.remove(key);
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super Object, ? super Object> action) {
+    materialize();
+    super.forEach(action);
+  }
+
+  @Override
+  public Object putIfAbsent(Object key, Object value) {
+    materialize();
+    return super.putIfAbsent(key, value);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    materialize();
+    return super.remove(key, value);
+  }
+
+  @Override
+  public boolean replace(Object key, Object oldValue, Object newValue) {
+    materialize();
+    return super.replace(key, oldValue, newValue);
+  }
+
+  @Override
+  public Object replace(Object key, Object value) {
+    materialize();
+    return super.replace(key, value);
+  }
+
+  @Override
+  public Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+    materialize();
+    return super.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public Object computeIfPresent(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+    materialize();
+    return super.computeIfPresent(key, remappingFunction);
+  }
+
+  @Override
+  public Object compute(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+    materialize();
+    return super.compute(key, remappingFunction);
+  }
+
+  @Override
+  public Object merge(Object key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+    materialize();
+    return super.merge(key, value, remappingFunction);
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+    materialize();
+    super.replaceAll(function);
+  }
+
+  @Override
+  public void clear() {
+    materialized = true;
+    super.clear();
+  }
+
+  @Override
+  public Object clone() {
+    materialize();
+    return super.clone();
+  }
+
+  private Object writeReplace() {
+    return new LinkedHashMap<>(this);
+  }
+
+  public static class StreamingModelSerializer extends JsonSerializer<StreamingModel> {
+
+    @Override
+    public void serialize(StreamingModel value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+      ObjectCodec codec = jgen.getCodec();
+      jgen.setCodec(value.mapper);
+      try {
+        if (value.materialized) {
+          value.mapper.writeValue(jgen, new LinkedHashMap<>(value));
+        } else {
+          value.mapper.writeValue(jgen, value.item);
+        }
+      } finally {
+        jgen.setCodec(codec);
+      }
+    }
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.widget;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Keeps track of the data held by live widgets. Data of a widget which was not displayed or messaged for the idle
+ * time is written to a temporary file and read back on the next use. Widgets are referenced weakly, the entry of a
+ * widget goes away with its comm.
+ */
+public class WidgetDataStore {
+
+  public static final String IDLE_MINUTES_PROPERTY = "beakerx.widget.idle.minutes";
+  public static final long DEFAULT_IDLE_MINUTES = 10;
+  public static final long MIN_SPILL_FOOTPRINT = 1024 * 1024;
+  private static final long CHECK_PERIOD_SECONDS = 60;
+
+  private static final Logger logger = LoggerFactory.getLogger(WidgetDataStore.class);
+
+  private static WidgetDataStore instance = new WidgetDataStore(idleMillis(), MIN_SPILL_FOOTPRINT, System::currentTimeMillis);
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final long idleMillis;
+  private final long minFootprint;
+  private final LongSupplier clock;
+  private ScheduledExecutorService scheduler;
+
+  WidgetDataStore(long idleMillis, long minFootprint, LongSupplier clock) {
+    this.idleMillis = idleMillis;
+    this.minFootprint = minFootprint;
+    this.clock = clock;
+  }
+
+  public static WidgetDataStore getInstance() {
+    return instance;
+  }
+
+  public void register(SpillableWidget widget) {
+    entries.put(widget.getComm().getCommId(), new Entry(widget, clock.getAsLong()));
+    startEviction();
+  }
+
+  /**
+   * Marks the widget as used, its data is read back first when it was spilled.
+   */
+  public void touch(SpillableWidget widget) {
+    Entry entry = entries.get(widget.getComm().getCommId());
+    if (entry != null) {
+      entry.touch(clock.getAsLong());
+    }
+  }
+
+  public void unregister(String commId) {
+    Entry entry = commId != null ? entries.remove(commId) : null;
+    if (entry != null) {
+      entry.discard();
+    }
+  }
+
+  public void evictIdle() {
+    long now = clock.getAsLong();
+    entries.forEach((commId, entry) -> {
+      try {
+        if (entry.widget.get() == null) {
+          unregister(commId);
+        } else {
+          entry.spillIfIdle(now - idleMillis, minFootprint);
+        }
+      } catch (RuntimeException e) {
+        logger.warn("Could not spill data of " + entry.name, e);
+      }
+    });
+  }
+
+  /**
+   * Live widgets, largest first.
+   */
+  public List<WidgetInfo> largest(int limit) {
+    long now = clock.getAsLong();
+    List<WidgetInfo> infos = new ArrayList<>();
+    entries.forEach((commId, entry) -> {
+      WidgetInfo info = entry.info(commId, now);
+      if (info != null) {
+        infos.add(info);
+      }
+    });
+    return infos.stream()
+            .sorted(Comparator.comparingLong(WidgetInfo::getFootprint).reversed())
+            .limit(limit)
+            .collect(toList());
+  }
+
+  private synchronized void startEviction() {
+    if (scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "widget-data-store");
+        thread.setDaemon(true);
+        return thread;
+      });
+      scheduler.scheduleWithFixedDelay(this::evictIdle, CHECK_PERIOD_SECONDS, CHECK_PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  private static long idleMillis() {
+    long minutes = DEFAULT_IDLE_MINUTES;
+    String property = System.getProperty(IDLE_MINUTES_PROPERTY);
+    if (property != null) {
+      try {
+        minutes = Long.parseLong(property.trim());
+      } catch (NumberFormatException e) {
+        logger.warn("Wrong value of " + IDLE_MINUTES_PROPERTY + ": " + property);
+      }
+    }
+    return TimeUnit.MINUTES.toMillis(minutes);
+  }
+
+  /**
+   * State of an entry is guarded by the lock of its widget, the lock the widget takes itself to spill and restore.
+   */
+  private static class Entry {
+    private final WeakReference<SpillableWidget> widget;
+    private final String name;
+    private volatile long lastUsed;
+    private long footprint;
+    private File file;
+    private boolean unspillable;
+
+    Entry(SpillableWidget widget, long now) {
+      this.widget = new WeakReference<>(widget);
+      this.name = widget.getClass().getSimpleName();
+      this.lastUsed = now;
+    }
+
+    void touch(long now) {
+      SpillableWidget current = widget.get();
+      if (current == null) {
+        return;
+      }
+      synchronized (current) {
+        lastUsed = now;
+        if (file == null) {
+          return;
+        }
+        try {
+          current.restore(file);
+          deleteFile();
+        } catch (IOException e) {
+          logger.error("Could not restore data of " + name + " from " + file, e);
+        }
+      }
+    }
+
+    void spillIfIdle(long idleSince, long minFootprint) {
+      SpillableWidget current = widget.get();
+      if (current == null) {
+        return;
+      }
+      synchronized (current) {
+        if (file != null || unspillable || lastUsed > idleSince) {
+          return;
+        }
+        footprint = current.estimateFootprint();
+        if (footprint < minFootprint) {
+          return;
+        }
+        File spillFile = null;
+        try {
+          spillFile = File.createTempFile("beakerx-widget-", ".bin");
+          spillFile.deleteOnExit();
+          current.spill(spillFile);
+          file = spillFile;
+        } catch (IOException e) {
+          logger.debug("Data of " + name + " can not be spilled", e);
+          unspillable = true;
+        } finally {
+          if (spillFile != null && file != spillFile) {
+            spillFile.delete();
+          }
+        }
+      }
+    }
+
+    WidgetInfo info(String commId, long now) {
+      SpillableWidget current = widget.get();
+      if (current == null) {
+        return null;
+      }
+      synchronized (current) {
+        long size = file != null ? footprint : current.estimateFootprint();
+        return new WidgetInfo(commId, name, size, file != null, now - lastUsed);
+      }
+    }
+
+    void discard() {
+      SpillableWidget current = widget.get();
+      if (current == null) {
+        deleteFile();
+        return;
+      }
+      synchronized (current) {
+        deleteFile();
+      }
+    }
+
+    private void deleteFile() {
+      if (file != null) {
+        file.delete();
+        file = null;
+      }
+    }
+  }
+
+  public static class WidgetInfo {
+    private final String commId;
+    private final String name;
+    private final long footprint;
+    private final boolean spilled;
+    private final long idleMillis;
+
+    WidgetInfo(String commId, String name, long footprint, boolean spilled, long idleMillis) {
+      this.commId = commId;
+      this.name = name;
+      this.footprint = footprint;
+      this.spilled = spilled;
+      this.idleMillis = idleMillis;
+    }
+
+    public String getCommId() {
+      return commId;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getFootprint() {
+      return footprint;
+    }
+
+    public boolean isSpilled() {
+      return spilled;
+    }
+
+    public long getIdleMillis() {
+      return idleMillis;
+    }
+  }
+}
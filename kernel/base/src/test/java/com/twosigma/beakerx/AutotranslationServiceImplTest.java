@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AutotranslationServiceImplTest {
+
+  private static final String VERSION = "\"1\"";
+
+  private HttpServer server;
+  private String body = "[1,2,3]";
+  private AtomicInteger bodiesSent = new AtomicInteger();
+  private AutotranslationService sut;
+
+  @Before
+  public void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(AutotranslationServiceImpl.AUTOTRANSLTION, exchange -> {
+      exchange.getResponseHeaders().add(AutotranslationServiceImpl.ETAG, VERSION);
+      if (VERSION.equals(exchange.getRequestHeaders().getFirst(AutotranslationServiceImpl.IF_NONE_MATCH))) {
+        exchange.sendResponseHeaders(304, -1);
+      } else {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+          os.write(bytes);
+        }
+        bodiesSent.incrementAndGet();
+      }
+      exchange.close();
+    });
+    server.start();
+    String context = "{\"contextId\":\"id1\",\"port\":\"" + server.getAddress().getPort() + "\"}";
+    sut = AutotranslationServiceImpl.createAsSubkernel(context);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    server.stop(0);
+  }
+
+  @Test
+  public void shouldServeUnchangedValueFromCache() throws Exception {
+    //given
+    body = "\"text\"";
+    DefaultBeakerXJsonSerializer serializer = new DefaultBeakerXJsonSerializer();
+    Object first = sut.get("x", serializer::fromJson);
+    //when
+    Object second = sut.get("x", serializer::fromJson);
+    //then
+    assertThat(second).isEqualTo("text");
+    assertThat(second).isSameAs(first);
+    assertThat(bodiesSent.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotShareMutableValueBetweenReads() throws Exception {
+    //given
+    DefaultBeakerXJsonSerializer serializer = new DefaultBeakerXJsonSerializer();
+    List<Object> first = (List<Object>) sut.get("x", serializer::fromJson);
+    first.clear();
+    //when
+    Object second = sut.get("x", serializer::fromJson);
+    //then
+    assertThat((List<Object>) second).hasSize(3);
+    assertThat(bodiesSent.get()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx;
+
+import com.twosigma.beakerx.kernel.comm.Comm;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BeakerXCommRepositoryTest {
+
+  private BeakerXCommRepository sut = new BeakerXCommRepository();
+
+  @Test
+  public void shouldFindCommByTargetName() {
+    //given
+    Comm comm = add("target");
+    add("other");
+    //when
+    Comm result = sut.getCommByTargetName("target");
+    //then
+    assertThat(result).isSameAs(comm);
+    assertThat(sut.getCommByTargetName("unknown")).isNull();
+  }
+
+  @Test
+  public void shouldRemoveCommFromTargetNameIndex() {
+    //given
+    Comm comm = add("target");
+    //when
+    sut.removeComm(comm.getCommId());
+    //then
+    assertThat(sut.getCommByTargetName("target")).isNull();
+    assertThat(sut.isCommPresent(comm.getCommId())).isFalse();
+  }
+
+  @Test
+  public void shouldKeepIndexConsistentWhenCommsAreAddedAndRemovedConcurrently() throws Exception {
+    //given
+    Comm stable = add("target");
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    List<Future<?>> futures = new ArrayList<>();
+    //when
+    for (int thread = 0; thread < 8; thread++) {
+      futures.add(executorService.submit(() -> {
+        for (int i = 0; i < 2000; i++) {
+          Comm comm = add("target");
+          assertThat(sut.getComm(comm.getCommId())).isSameAs(comm);
+          assertThat(sut.getCommByTargetName("target")).isNotNull();
+          sut.removeComm(comm.getCommId());
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+    //then
+    assertThat(sut.getCommHashSet()).containsExactly(stable.getCommId());
+    assertThat(sut.getCommByTargetName("target")).isSameAs(stable);
+  }
+
+  private Comm add(String targetName) {
+    Comm comm = new Comm(targetName);
+    sut.addComm(comm.getCommId(), comm);
+    return comm;
+  }
+}
@@ -28,6 +28,7 @@ import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
 import com.twosigma.beakerx.jvm.threads.BeakerInputHandler;
 import com.twosigma.beakerx.jvm.threads.BeakerOutputHandler;
 import com.twosigma.beakerx.kernel.AddImportStatus;
+import com.twosigma.beakerx.kernel.AsyncScheduler;
 import com.twosigma.beakerx.kernel.BeakerXJson;
 import com.twosigma.beakerx.kernel.Classpath;
 import com.twosigma.beakerx.kernel.EvaluatorParameters;
@@ -85,6 +86,7 @@ public class KernelTest implements KernelFunctionality {
 
   private List<MagicCommandType> magicCommandTypes = null;
   private LinkedList<String> stdinText = new LinkedList<>();
+  private AsyncScheduler asyncScheduler = new AsyncScheduler();
 
   public KernelTest(ResultSender resultSender) {
     this("KernelTestId1", new BeakerXCommRepositoryMock());
@@ -286,6 +288,12 @@ public class KernelTest implements KernelFunctionality {
 
   @Override
   public void cancelExecution(GroupName groupName) {
+    asyncScheduler.cancel(groupName);
+  }
+
+  @Override
+  public AsyncScheduler getAsyncScheduler() {
+    return asyncScheduler;
   }
 
   @Override
@@ -40,11 +40,13 @@ import com.twosigma.beakerx.kernel.magic.command.functionality.JSMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.JavaScriptMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.LoadMagicMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.LsMagicCommand;
+import com.twosigma.beakerx.kernel.magic.command.functionality.PerfMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.TimeCellModeMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.TimeItCellModeMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.TimeItLineModeMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.TimeLineModeMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.UnImportMagicCommand;
+import com.twosigma.beakerx.kernel.magic.command.functionality.WidgetsMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.kernelMagic.ClojureMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.kernelMagic.GroovyMagicCommand;
 import com.twosigma.beakerx.kernel.magic.command.functionality.kernelMagic.JavaMagicCommand;
@@ -79,7 +81,7 @@ public class MagicCommandConfigurationMock implements MagicCommandConfiguration
             new MagicCommandType(JSMagicCommand.JAVASCRIPT, "", new JSMagicCommand()),
             new MagicCommandType(HtmlMagicCommand.HTML, "", new HtmlMagicCommand()),
             new MagicCommandType(HtmlAliasMagicCommand.HTML, "", new HtmlAliasMagicCommand()),
-            new MagicCommandType(BashMagicCommand.BASH, "", new BashMagicCommand()),
+            new MagicCommandType(BashMagicCommand.BASH, "", new BashMagicCommand(kernel)),
             new MagicCommandType(LsMagicCommand.LSMAGIC, "", new LsMagicCommand(magicCommandTypes)),
             new MagicCommandType(ClasspathAddRepoMagicCommand.CLASSPATH_CONFIG_RESOLVER, "repoName repoURL", new ClasspathAddRepoMagicCommand(kernel)),
             new MagicCommandType(ClasspathAddJarMagicCommand.CLASSPATH_ADD_JAR, "<jar path>", new ClasspathAddJarMagicCommand(kernel)),
@@ -99,6 +101,8 @@ public class MagicCommandConfigurationMock implements MagicCommandConfiguration
             new MagicCommandType(TimeItLineModeMagicCommand.TIMEIT_LINE, "", new TimeItLineModeMagicCommand(kernel)),
             new MagicCommandType(TimeItCellModeMagicCommand.TIMEIT_CELL, "", new TimeItCellModeMagicCommand(kernel)),
             new MagicCommandType(LoadMagicMagicCommand.LOAD_MAGIC, "", new LoadMagicMagicCommand(kernel)),
+            new MagicCommandType(WidgetsMagicCommand.WIDGETS, "[count]", new WidgetsMagicCommand()),
+            new MagicCommandType(PerfMagicCommand.PERF, "[on|off|reset]", new PerfMagicCommand()),
             new MagicCommandType(KernelMagicCommand.KERNEL, "", new KernelMagicCommand(kernel)),
             new MagicCommandType(PythonMagicCommand.PYTHON, "", new PythonMagicCommand(kernel)),
             new MagicCommandType(ScalaMagicCommand.SCALA, "", new ScalaMagicCommand(kernel)),
@@ -25,12 +25,15 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -146,6 +149,12 @@ public class NamespaceClientTest {
       return beakerx.get(name);
     }
 
+    @Override
+    public Object get(String name, Function<Reader, Object> parser) {
+      String json = beakerx.get(name);
+      return (json == null) ? UNDEFINED : parser.apply(new StringReader(json));
+    }
+
     @Override
     public String close() {
       return null;
@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.chart.serializer;
+
+import com.twosigma.beakerx.chart.heatmap.HeatMapAggregation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HeatMapAggregatorTest {
+
+  public static final int ROWS_LIMIT = 100;
+  public static final int COLUMN_LIMIT = 100;
+  private HeatMapAggregator sut;
+
+  @Before
+  public void setUp() throws Exception {
+    sut = new HeatMapAggregator(COLUMN_LIMIT, ROWS_LIMIT);
+  }
+
+  @Test
+  public void shouldLimitDataInHeatMap() {
+    //given
+    double[][] items = createData(1000, 1000);
+    //when
+    Number[][] limitedItems = sut.aggregate(items, HeatMapAggregation.MEAN);
+    //then
+    assertThat(limitedItems.length).isEqualTo(ROWS_LIMIT);
+    assertThat(HeatMapReducer.totalPoints(limitedItems)).isEqualTo(ROWS_LIMIT * COLUMN_LIMIT);
+  }
+
+  @Test
+  public void shouldKeepPeakWithMaxAggregation() {
+    //given
+    double[][] items = createData(1000, 1000);
+    items[505][505] = 1000;
+    //when
+    Number[][] limitedItems = sut.aggregate(items, HeatMapAggregation.MAX);
+    //then
+    assertThat(limitedItems[50][50]).isEqualTo(1000.0);
+    assertThat(limitedItems[0][0]).isEqualTo(1.0);
+  }
+
+  @Test
+  public void shouldComputeMeanOfTile() {
+    //given
+    double[][] items = createData(200, 200);
+    items[0][0] = 5;
+    //when
+    Number[][] limitedItems = sut.aggregate(items, HeatMapAggregation.MEAN);
+    //then
+    assertThat(limitedItems[0][0]).isEqualTo(2.0);
+    assertThat(limitedItems[0][1]).isEqualTo(1.0);
+  }
+
+  @Test
+  public void shouldSkipNaNValues() {
+    //given
+    double[][] items = createData(200, 200);
+    items[0][0] = Double.NaN;
+    items[0][1] = Double.NaN;
+    items[1][0] = Double.NaN;
+    items[1][1] = Double.NaN;
+    //when
+    Number[][] limitedItems = sut.aggregate(items, HeatMapAggregation.MIN);
+    //then
+    assertThat(limitedItems[0][0]).isNull();
+    assertThat(limitedItems[0][1]).isEqualTo(1.0);
+  }
+
+  private double[][] createData(int columns, int rows) {
+    double[][] data = new double[rows][columns];
+    for (double[] row : data) {
+      Arrays.fill(row, 1);
+    }
+    return data;
+  }
+}
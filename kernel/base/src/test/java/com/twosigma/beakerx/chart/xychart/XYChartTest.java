@@ -22,11 +22,16 @@ import com.twosigma.beakerx.chart.serializer.ConstantLineSerializer;
 import com.twosigma.beakerx.chart.serializer.GraphicsSerializer;
 import com.twosigma.beakerx.chart.serializer.RastersSerializer;
 import com.twosigma.beakerx.chart.serializer.TextSerializer;
+import com.twosigma.beakerx.chart.serializer.XYGraphicsSerializer;
 import com.twosigma.beakerx.chart.xychart.plotitem.ConstantBand;
 import com.twosigma.beakerx.chart.xychart.plotitem.ConstantLine;
 import com.twosigma.beakerx.chart.xychart.plotitem.Line;
 import com.twosigma.beakerx.chart.xychart.plotitem.Rasters;
 import com.twosigma.beakerx.chart.xychart.plotitem.Text;
+import com.twosigma.beakerx.kernel.comm.Comm;
+import com.twosigma.beakerx.jupyter.SearchMessages;
+import com.twosigma.beakerx.message.Message;
+import com.twosigma.beakerx.widget.BeakerxWidget;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -49,6 +54,7 @@ import static com.twosigma.beakerx.chart.serializer.XYChartSerializer.X_LOWER_BO
 import static com.twosigma.beakerx.chart.serializer.XYChartSerializer.X_TICK_LABELS_VISIBLE;
 import static com.twosigma.beakerx.chart.serializer.XYChartSerializer.X_UPPER_BOUND;
 import static com.twosigma.beakerx.chart.serializer.XYChartSerializer.Y_TICK_LABELS_VISIBLE;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public abstract class XYChartTest<T extends XYChart> extends AbstractChartTest<XYChart> {
@@ -164,6 +170,68 @@ public abstract class XYChartTest<T extends XYChart> extends AbstractChartTest<X
     assertThat(actual.get(RastersSerializer.TYPE)).isEqualTo(Rasters.class.getSimpleName());
   }
 
+  @Test
+  public void shouldSendOneMergedCommMsgForBatchedChanges() throws Exception {
+    //given
+    XYChart xyChart = createWidget();
+    int graphicsBefore = xyChart.getGraphics().size();
+    //when
+    xyChart.batch(() -> {
+      for (int i = 0; i < 10; i++) {
+        Line graphics = new Line();
+        graphics.setX(Collections.singletonList(i));
+        graphics.setY(Collections.singletonList(i));
+        xyChart.add(graphics);
+      }
+      xyChart.setLogX(true);
+    });
+    //then
+    assertThat(SearchMessages.getListByDataAttr(kernel.getPublishedMessages(), Comm.METHOD, Comm.UPDATE)).hasSize(1);
+    LinkedHashMap model = getModelUpdate();
+    assertThat(model.size()).isEqualTo(2);
+    assertThat((List) model.get(GRAPHICS_LIST)).hasSize(graphicsBefore + 10);
+    assertThat(model.get(LOG_X)).isEqualTo(true);
+  }
+
+  @Test
+  public void shouldSendOnlyAppendedPointsWhenLineIsAppended() throws Exception {
+    //given
+    XYChart xyChart = createWidget();
+    Line graphics = new Line();
+    graphics.setX(asList(1, 2));
+    graphics.setY(asList(1, 2));
+    xyChart.add(graphics);
+    kernel.clearMessages();
+    //when
+    graphics.append(3, 3);
+    //then
+    assertThat(SearchMessages.getListByDataAttr(kernel.getPublishedMessages(), Comm.METHOD, Comm.UPDATE)).isEmpty();
+    List<Message> custom = SearchMessages.getListByDataAttr(kernel.getPublishedMessages(), Comm.METHOD, BeakerxWidget.CUSTOM);
+    assertThat(custom).hasSize(1);
+    Map data = (Map) custom.get(0).getContent().get(Comm.DATA);
+    Map delta = (Map) data.get(BeakerxWidget.CONTENT);
+    assertThat(delta.get(BeakerxWidget.EVENT)).isEqualTo(XYGraphicsSerializer.APPEND_POINTS);
+    assertThat(delta.get(GraphicsSerializer.UID)).isEqualTo(graphics.getUid());
+    assertThat((List) delta.get(XYGraphicsSerializer.Y)).containsExactly(3);
+  }
+
+  @Test
+  public void shouldSendAppendedPointsOnceWhenLineIsAddedTwice() throws Exception {
+    //given
+    XYChart xyChart = createWidget();
+    Line graphics = new Line();
+    graphics.setX(asList(1, 2));
+    graphics.setY(asList(1, 2));
+    xyChart.add(graphics);
+    xyChart.add(graphics);
+    kernel.clearMessages();
+    //when
+    graphics.append(3, 3);
+    //then
+    List<Message> custom = SearchMessages.getListByDataAttr(kernel.getPublishedMessages(), Comm.METHOD, BeakerxWidget.CUSTOM);
+    assertThat(custom).hasSize(1);
+  }
+
   @Test
   public void shouldSendCommMsgWhenAddXYGraphicsByLeftShift() throws Exception {
     //given
@@ -61,4 +61,37 @@ public class LineTest {
     //then
     Assertions.assertThat(line.getColor() instanceof Color).isTrue();
   }
+
+  @Test
+  public void appendWithMaxPoints_lineKeepsLatestPoints() {
+    //given
+    Line line = new Line(Arrays.asList(1, 2, 3), Arrays.asList(10, 20, 30));
+    line.setMaxPoints(3);
+    //when
+    line.append(Arrays.asList(4, 5), Arrays.asList(40, 50));
+    //then
+    Assertions.assertThat(line.getX()).containsExactly(3, 4, 5);
+    Assertions.assertThat(line.getY()).containsExactly(30, 40, 50);
+  }
+
+  @Test
+  public void setMaxPointsAfterSetY_lineKeepsLatestGeneratedXs() {
+    //given
+    Line line = new Line();
+    line.setY(Arrays.asList(10, 20, 30, 40, 50, 60, 70, 80));
+    //when
+    line.setMaxPoints(5);
+    //then
+    Assertions.assertThat(line.getY()).containsExactly(40, 50, 60, 70, 80);
+    Assertions.assertThat(line.getX()).containsExactly(3, 4, 5, 6, 7);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void appendToLineWithToolTips_throwsIllegalStateException() {
+    //given
+    Line line = new Line(Arrays.asList(1, 2), Arrays.asList(10, 20));
+    line.setToolTip(Arrays.asList("a", "b"));
+    //when
+    line.append(3, 30);
+  }
 }
@@ -22,6 +22,7 @@ import com.twosigma.beakerx.TryResult;
 import com.twosigma.beakerx.autocomplete.AutocompleteResult;
 import com.twosigma.beakerx.inspect.InspectResult;
 import com.twosigma.beakerx.jvm.classloader.BeakerXUrlClassLoader;
+import com.twosigma.beakerx.jvm.object.ProgressScope;
 import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
 import com.twosigma.beakerx.jvm.threads.CellExecutor;
 import com.twosigma.beakerx.kernel.CacheFolderFactory;
@@ -221,6 +222,11 @@ public class EvaluatorTest extends BaseEvaluator {
 
     }
 
+    @Override
+    public ProgressScope progress(String name, long total) {
+      return null;
+    }
+
     @Override
     public void delBeaker() {
 
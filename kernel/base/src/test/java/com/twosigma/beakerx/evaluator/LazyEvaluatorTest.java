@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.evaluator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyEvaluatorTest {
+
+  private EvaluatorTest evaluator;
+  private LazyEvaluator sut;
+
+  @Before
+  public void setUp() throws Exception {
+    evaluator = new EvaluatorTest();
+    sut = new LazyEvaluator(() -> evaluator);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    sut.exit();
+  }
+
+  @Test
+  public void shouldServeCallsOnceAfterInitIsDone() throws Exception {
+    //given
+    AtomicReference<Path> seenByAfterInit = new AtomicReference<>();
+    //when
+    sut.initialize(() -> seenByAfterInit.set(sut.getTempFolder()));
+    Path tempFolder = sut.getTempFolder();
+    //then
+    assertThat(sut.isReady()).isTrue();
+    assertThat(seenByAfterInit.get()).isEqualTo(tempFolder);
+    assertThat(tempFolder).isEqualTo(evaluator.getTempFolder());
+  }
+}
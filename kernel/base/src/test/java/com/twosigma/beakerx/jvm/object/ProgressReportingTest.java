@@ -23,10 +23,13 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class ProgressReportingTest {
 
   private KernelTest groovyKernel;
   private ProgressReporting progress;
+  private AtomicLong clock = new AtomicLong();
 
   @Before
   public void setUp() throws Exception {
@@ -68,4 +71,66 @@ public class ProgressReportingTest {
     Assertions.assertThat(progress.getIntProgress()).isNull();
   }
 
+  @Test
+  public void structuredUpdate_shouldCoalesceUpdatesWithinWindow() throws Exception {
+    //given
+    ProgressReporting sut = new ProgressReporting(1000, clock::get);
+    sut.structuredUpdate("msg", 0);
+    int published = groovyKernel.getPublishedMessages().size();
+    //when
+    for (int i = 1; i <= 1000; i++) {
+      sut.structuredUpdate("msg", i / 10);
+    }
+    //then
+    Assertions.assertThat(groovyKernel.getPublishedMessages()).hasSize(published);
+    sut.close();
+  }
+
+  @Test
+  public void structuredUpdate_shouldSendLastUpdateWhenWindowEnds() throws Exception {
+    //given
+    ProgressReporting sut = new ProgressReporting(50, System::currentTimeMillis);
+    sut.structuredUpdate("msg", 1);
+    //when
+    sut.structuredUpdate("last", 2);
+    //then
+    for (int i = 0; i < 50 && sut.getIntProgress().getValue() != 2; i++) {
+      Thread.sleep(20);
+    }
+    Assertions.assertThat(sut.getIntProgress().getValue()).isEqualTo(2);
+    Assertions.assertThat(sut.getIntProgress().getDescription()).isEqualTo("last");
+    sut.close();
+  }
+
+  @Test
+  public void scope_shouldShowNestedStagesWithRateAndEta() throws Exception {
+    //given
+    ProgressReporting sut = new ProgressReporting(0, clock::get);
+    ProgressScope job = sut.scope("load", 10);
+    ProgressScope stage = job.stage("parse", 100);
+    //when
+    clock.set(2000);
+    stage.update(40);
+    //then
+    Assertions.assertThat(sut.getIntProgress().getValue()).isEqualTo(4);
+    Assertions.assertThat(sut.getIntProgress().getDescription()).isEqualTo("load 0/10 > parse 40/100, 20.0 items/s, ETA 00:48");
+    sut.close();
+  }
+
+  @Test
+  public void scope_closingStageAdvancesParent() throws Exception {
+    //given
+    ProgressReporting sut = new ProgressReporting(0, clock::get);
+    ProgressScope job = sut.scope("job", 4);
+    //when
+    try (ProgressScope stage = job.stage("first", 10)) {
+      stage.increment();
+    }
+    job.stage("second", 10).update(5);
+    //then
+    Assertions.assertThat(job.getDone()).isEqualTo(1);
+    Assertions.assertThat(sut.getIntProgress().getValue()).isEqualTo(37);
+    sut.close();
+  }
+
 }
@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncSchedulerTest {
+
+  private List<String> events = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void shouldNotRunMoreJobsThanConcurrencyLimit() {
+    //given
+    AsyncScheduler sut = new AsyncScheduler(1);
+    CountDownLatch release = new CountDownLatch(1);
+    //when
+    GroupName first = submit(sut, "first", null, 0, release);
+    GroupName second = submit(sut, "second", null, 0, release);
+    //then
+    assertThat(sut.getRunning()).containsExactly(first);
+    assertThat(sut.getQueued()).containsExactly(second);
+    assertThat(events).contains("queued second").doesNotContain("run second");
+    release.countDown();
+  }
+
+  @Test
+  public void shouldStartJobWithHigherPriorityFirst() throws Exception {
+    //given
+    AsyncScheduler sut = new AsyncScheduler(1);
+    CountDownLatch release = new CountDownLatch(1);
+    submit(sut, "blocking", null, 0, release);
+    submit(sut, "low", null, 0, null);
+    submit(sut, "high", null, 5, null);
+    //when
+    release.countDown();
+    //then
+    waitUntilIdle(sut);
+    assertThat(events).containsSubsequence("run blocking", "run high", "run low");
+  }
+
+  @Test
+  public void shouldWaitForJobItDependsOn() throws Exception {
+    //given
+    AsyncScheduler sut = new AsyncScheduler(2);
+    CountDownLatch release = new CountDownLatch(1);
+    submit(sut, "load", null, 0, release);
+    GroupName dependent = submit(sut, "train", "load", 0, null);
+    assertThat(sut.getQueued()).containsExactly(dependent);
+    //when
+    release.countDown();
+    //then
+    waitUntilIdle(sut);
+    assertThat(events).containsSubsequence("run load", "run train");
+  }
+
+  @Test
+  public void shouldCancelQueuedJob() throws Exception {
+    //given
+    AsyncScheduler sut = new AsyncScheduler(1);
+    CountDownLatch release = new CountDownLatch(1);
+    submit(sut, "running", null, 0, release);
+    GroupName queued = submit(sut, "queued", null, 0, null);
+    //when
+    boolean cancelled = sut.cancel(queued);
+    release.countDown();
+    //then
+    waitUntilIdle(sut);
+    assertThat(cancelled).isTrue();
+    assertThat(events).containsSubsequence("queued queued", "cancelled queued").doesNotContain("run queued");
+  }
+
+  private GroupName submit(AsyncScheduler sut, String name, String after, int priority, CountDownLatch release) {
+    GroupName groupName = GroupName.generate();
+    sut.submit(new AsyncScheduler.Job(groupName, name, after, priority, new AsyncScheduler.AsyncTask() {
+      @Override
+      public void queued() {
+        events.add("queued " + name);
+      }
+
+      @Override
+      public void run() {
+        events.add("run " + name);
+        if (release != null) {
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        }
+      }
+
+      @Override
+      public void cancelled() {
+        events.add("cancelled " + name);
+      }
+    }));
+    return groupName;
+  }
+
+  private void waitUntilIdle(AsyncScheduler sut) throws InterruptedException {
+    for (int i = 0; i < 100 && !(sut.getRunning().isEmpty() && sut.getQueued().isEmpty()); i++) {
+      Thread.sleep(50);
+    }
+    assertThat(asList(sut.getRunning().size(), sut.getQueued().size())).containsExactly(0, 0);
+  }
+}
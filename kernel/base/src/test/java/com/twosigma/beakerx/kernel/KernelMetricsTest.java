@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel;
+
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KernelMetricsTest {
+
+  @After
+  public void tearDown() {
+    KernelMetrics.setEnabled(false);
+    KernelMetrics.reset();
+  }
+
+  @Test
+  public void shouldNotRecordWhenDisabled() {
+    //given
+    KernelMetrics.setEnabled(false);
+    //when
+    KernelMetrics.record(KernelMetrics.Stage.PARSE, KernelMetrics.start());
+    KernelMetrics.iopub("stream", 100);
+    //then
+    assertThat(KernelMetrics.getHistogram(KernelMetrics.Stage.PARSE).getCount()).isZero();
+    assertThat(KernelMetrics.getIopubMessages()).isEmpty();
+  }
+
+  @Test
+  public void shouldRecordStageDurations() {
+    //given
+    KernelMetrics.setEnabled(true);
+    KernelMetrics.Histogram histogram = KernelMetrics.getHistogram(KernelMetrics.Stage.EXECUTE);
+    //when
+    for (int i = 0; i < 99; i++) {
+      histogram.add(1000);
+    }
+    histogram.add(1_000_000);
+    //then
+    assertThat(histogram.getCount()).isEqualTo(100);
+    assertThat(histogram.getMax()).isEqualTo(1_000_000);
+    assertThat(histogram.percentile(0.5)).isBetween(1000L, 2047L);
+    assertThat(histogram.percentile(1)).isEqualTo(1_000_000);
+    assertThat(KernelMetrics.report()).contains("execute");
+  }
+
+  @Test
+  public void shouldCountIopubMessagesAndBytesPerType() {
+    //given
+    KernelMetrics.setEnabled(true);
+    //when
+    KernelMetrics.iopub("stream", 100);
+    KernelMetrics.iopub("stream", 50);
+    KernelMetrics.iopub("status", 10);
+    //then
+    assertThat(KernelMetrics.getIopubMessages()).containsEntry("stream", 2L).containsEntry("status", 1L);
+    assertThat(KernelMetrics.getIopubBytes()).containsEntry("stream", 150L).containsEntry("status", 10L);
+  }
+
+  @Test
+  public void shouldSwitchMetricsThroughMBean() throws Exception {
+    //given
+    KernelMetrics.registerMBean();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(KernelMetrics.OBJECT_NAME);
+    //when
+    server.setAttribute(name, new Attribute("Enabled", true));
+    //then
+    assertThat(KernelMetrics.isEnabled()).isTrue();
+    assertThat((String) server.getAttribute(name, "Report")).contains("stage");
+  }
+}
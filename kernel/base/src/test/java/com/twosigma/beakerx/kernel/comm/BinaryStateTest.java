@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel.comm;
+
+import com.twosigma.beakerx.KernelTest;
+import com.twosigma.beakerx.chart.xychart.Plot;
+import com.twosigma.beakerx.chart.xychart.plotitem.Rasters;
+import com.twosigma.beakerx.kernel.KernelManager;
+import com.twosigma.beakerx.message.Message;
+import com.twosigma.beakerx.message.MessageSerializer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BinaryStateTest {
+
+  private static final byte[] IMAGE = new byte[]{1, 2, 3, 4};
+
+  private KernelTest kernel;
+
+  @Before
+  public void setUp() throws Exception {
+    kernel = new KernelTest();
+    KernelManager.register(kernel);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    KernelManager.register(null);
+  }
+
+  @Test
+  public void shouldSendRasterBytesAsMessageBuffer() {
+    //given
+    Plot plot = new Plot();
+    plot.add(rasters());
+    //when
+    plot.display();
+    //then
+    Message message = messageWithBuffers();
+    String content = MessageSerializer.toJson(message.getContent());
+    assertThat(message.getBuffers()).containsExactly(IMAGE);
+    assertThat(content).doesNotContain("base64");
+    assertThat(bufferPaths(message)).containsExactly(asList("model", "rasters", 0, "value"));
+  }
+
+  @Test
+  public void shouldNotRepeatBuffersWhenMessageIsSerializedAgain() {
+    //given
+    Plot plot = new Plot();
+    plot.add(rasters());
+    plot.display();
+    Message message = messageWithBuffers();
+    //when
+    MessageSerializer.toJson(message.getContent());
+    //then
+    assertThat(message.getBuffers()).hasSize(1);
+    assertThat(bufferPaths(message)).hasSize(1);
+  }
+
+  private Message messageWithBuffers() {
+    List<Message> messages = kernel.getPublishedMessages().stream()
+            .peek(m -> MessageSerializer.toJson(m.getContent()))
+            .filter(m -> !m.getBuffers().isEmpty())
+            .collect(toList());
+    assertThat(messages).hasSize(1);
+    return messages.get(0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<List<Object>> bufferPaths(Message message) {
+    Map<String, Object> data = (Map<String, Object>) message.getContent().get(Comm.DATA);
+    return (List<List<Object>>) data.get(Comm.BUFFER_PATHS);
+  }
+
+  private Rasters rasters() {
+    Rasters rasters = new Rasters();
+    List<Number> value = singletonList(1);
+    rasters.setY(value);
+    rasters.setWidth(value);
+    rasters.setHeight(value);
+    rasters.setOpacity(value);
+    rasters.setDataString(IMAGE);
+    return rasters;
+  }
+}
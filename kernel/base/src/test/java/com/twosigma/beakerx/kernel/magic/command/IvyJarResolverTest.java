@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel.magic.command;
+
+import com.twosigma.beakerx.kernel.magic.command.MavenJarResolver.Dependency;
+import com.twosigma.beakerx.kernel.magic.command.MavenJarResolver.ResolverParams;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IvyJarResolverTest {
+
+  private File repo;
+  private IvyJarResolver sut;
+
+  @Before
+  public void setUp() throws Exception {
+    repo = Files.createTempDirectory("ivyJarResolverTest").toFile();
+    addArtifact("b", "<dependencies><dependency><groupId>org.ex</groupId><artifactId>d</artifactId><version>1.0</version></dependency></dependencies>");
+    addArtifact("d", "");
+    sut = new IvyJarResolver(new ResolverParams(repo.getAbsolutePath(), new File(repo, "jars").getAbsolutePath(), true));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    FileUtils.deleteDirectory(repo);
+  }
+
+  @Test
+  public void shouldResolveTransitiveDependenciesFromLocalRepository() throws Exception {
+    //given
+    List<String> downloaded = new ArrayList<>();
+    //when
+    List<File> jars = sut.resolve(dependencyOnB(), downloaded::add);
+    //then
+    assertThat(jars).extracting(File::getName).containsExactly("b-1.0.jar", "d-1.0.jar");
+    assertThat(downloaded).hasSize(2);
+  }
+
+  @Test
+  public void shouldServeResolvedGraphFromCache() throws Exception {
+    //given
+    List<File> jars = sut.resolve(dependencyOnB(), line -> {
+    });
+    //when
+    Optional<List<File>> cached = sut.cached(dependencyOnB());
+    //then
+    assertThat(cached).contains(jars);
+  }
+
+  private List<Dependency> dependencyOnB() {
+    return singletonList(Dependency.create(asList("org.ex", "b", "1.0")));
+  }
+
+  private void addArtifact(String artifactId, String dependencies) throws Exception {
+    File dir = new File(repo, "org/ex/" + artifactId + "/1.0");
+    String pom = "<project><modelVersion>4.0.0</modelVersion><groupId>org.ex</groupId><artifactId>" + artifactId +
+            "</artifactId><version>1.0</version>" + dependencies + "</project>";
+    FileUtils.writeStringToFile(new File(dir, artifactId + "-1.0.pom"), pom, StandardCharsets.UTF_8);
+    try (ZipOutputStream jar = new ZipOutputStream(new FileOutputStream(new File(dir, artifactId + "-1.0.jar")))) {
+      jar.putNextEntry(new ZipEntry(artifactId + ".txt"));
+      jar.closeEntry();
+    }
+  }
+}
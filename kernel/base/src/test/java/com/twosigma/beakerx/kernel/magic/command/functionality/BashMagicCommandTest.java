@@ -0,0 +1,113 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.kernel.magic.command.functionality;
+
+import com.twosigma.beakerx.KernelTest;
+import com.twosigma.beakerx.evaluator.EvaluatorResultTestWatcher;
+import com.twosigma.beakerx.kernel.Code;
+import com.twosigma.beakerx.kernel.magic.command.CodeFactory;
+import com.twosigma.beakerx.kernel.magic.command.MagicCommandExecutionParam;
+import com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutcomeItem;
+import com.twosigma.beakerx.kernel.magic.command.outcome.MagicCommandOutput;
+import com.twosigma.beakerx.kernel.msg.JupyterMessages;
+import com.twosigma.beakerx.message.Message;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.twosigma.beakerx.MessageFactorTest.commMsg;
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BashMagicCommandTest {
+
+  private KernelTest kernel;
+
+  @Before
+  public void setUp() throws Exception {
+    kernel = new KernelTest();
+  }
+
+  @Test
+  public void streamOutputLargerThanPipeBuffer() {
+    //given
+    Code code = CodeFactory.create(BashMagicCommand.BASH + "\nseq 1 100000", commMsg(), kernel);
+    //when
+    code.execute(kernel, 1);
+    //then
+    String output = streamText("stdout");
+    assertThat(output).startsWith("1\n2\n").endsWith("99999\n100000\n");
+    assertThat(kernel.getPublishedMessages().size()).isLessThan(100000);
+    assertThat(kernel.getSentMessages().get(0).getContent().get("status")).isEqualTo("ok");
+  }
+
+  @Test
+  public void reportNonZeroExitCode() {
+    //given
+    Code code = CodeFactory.create(BashMagicCommand.BASH + "\necho failing\nexit 3", commMsg(), kernel);
+    //when
+    code.execute(kernel, 1);
+    //then
+    assertThat(streamText("stdout")).isEqualTo("failing\n");
+    assertThat(streamText("stderr")).contains(String.format(BashMagicCommand.EXIT_CODE, 3));
+    assertThat(kernel.getSentMessages().get(0).getContent().get("status")).isEqualTo("error");
+  }
+
+  @Test
+  public void cancelRunningProcess() throws Exception {
+    //given
+    BashMagicCommand sut = new BashMagicCommand(kernel);
+    String bash = "echo started\nsleep 30";
+    Code code = CodeFactory.create(BashMagicCommand.BASH + "\n" + bash, commMsg(), kernel);
+    MagicCommandExecutionParam param = new MagicCommandExecutionParam(BashMagicCommand.BASH, bash, 1, code, true);
+    CompletableFuture<MagicCommandOutcomeItem> outcome = CompletableFuture.supplyAsync(() -> sut.execute(param));
+    EvaluatorResultTestWatcher.waitForProperty(() -> streamText("stdout").isEmpty() ? Optional.empty() : Optional.of(true));
+    //when
+    sut.cancel();
+    //then
+    MagicCommandOutput output = (MagicCommandOutput) outcome.get(10, TimeUnit.SECONDS);
+    assertThat(output.getStatus()).isEqualTo(MagicCommandOutput.Status.ERROR);
+    assertThat(output.getMIMEContainer().get().getData()).isEqualTo(BashMagicCommand.CANCELLED + "\n");
+  }
+
+  @Test
+  public void cancelProcessWithRunningChild() throws Exception {
+    //given
+    BashMagicCommand sut = new BashMagicCommand(kernel);
+    String bash = "echo started\nsleep 30; echo x";
+    Code code = CodeFactory.create(BashMagicCommand.BASH + "\n" + bash, commMsg(), kernel);
+    MagicCommandExecutionParam param = new MagicCommandExecutionParam(BashMagicCommand.BASH, bash, 1, code, true);
+    CompletableFuture<MagicCommandOutcomeItem> outcome = CompletableFuture.supplyAsync(() -> sut.execute(param));
+    EvaluatorResultTestWatcher.waitForProperty(() -> streamText("stdout").isEmpty() ? Optional.empty() : Optional.of(true));
+    //when
+    sut.cancel();
+    //then
+    MagicCommandOutput output = (MagicCommandOutput) outcome.get(10, TimeUnit.SECONDS);
+    assertThat(output.getStatus()).isEqualTo(MagicCommandOutput.Status.ERROR);
+    assertThat(streamText("stdout")).doesNotContain("x");
+  }
+
+  private String streamText(String name) {
+    return kernel.getPublishedMessages().stream()
+            .filter(m -> m.type().equals(JupyterMessages.STREAM))
+            .filter(m -> name.equals(m.getContent().get("name")))
+            .map(m -> (String) m.getContent().get("text"))
+            .collect(joining());
+  }
+}
@@ -20,7 +20,9 @@ import com.twosigma.beakerx.KernelTest;
 import com.twosigma.beakerx.chart.Color;
 import com.twosigma.beakerx.chart.xychart.XYChart;
 import com.twosigma.beakerx.fileloader.CSV;
+import com.twosigma.beakerx.jupyter.SearchMessages;
 import com.twosigma.beakerx.jvm.serialization.DateSerializer;
+import com.twosigma.beakerx.kernel.comm.Comm;
 import com.twosigma.beakerx.kernel.KernelManager;
 import com.twosigma.beakerx.kernel.msg.JupyterMessages;
 import com.twosigma.beakerx.message.Message;
@@ -38,6 +40,7 @@ import com.twosigma.beakerx.table.serializer.ThreeColorHeatmapHighlighterSeriali
 import com.twosigma.beakerx.table.serializer.TimeStringFormatSerializer;
 import com.twosigma.beakerx.table.serializer.UniqueEntriesHighlighterSerializer;
 import com.twosigma.beakerx.table.serializer.ValueHighlighterSerializer;
+import com.twosigma.beakerx.widget.BeakerxWidget;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -49,6 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.twosigma.beakerx.fileloader.CSVTest.TABLE_ROWS_TEST_CSV;
 import static com.twosigma.beakerx.fileloader.CSVTest.getOsAppropriatePath;
@@ -58,8 +62,10 @@ import static com.twosigma.beakerx.table.serializer.DecimalStringFormatSerialize
 import static com.twosigma.beakerx.table.serializer.ObservableTableDisplaySerializer.DOUBLE_CLICK_TAG;
 import static com.twosigma.beakerx.table.serializer.ObservableTableDisplaySerializer.HAS_DOUBLE_CLICK_ACTION;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.ALIGNMENT_FOR_COLUMN;
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.APPEND_ROWS;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.ALIGNMENT_FOR_TYPE;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.CELL_HIGHLIGHTERS;
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.CELL_PROPERTIES;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.COLUMNS_FROZEN;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.COLUMNS_FROZEN_RIGHT;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.COLUMNS_VISIBLE;
@@ -70,7 +76,9 @@ import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.FONT_
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.HAS_INDEX;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.HEADERS_VERTICAL;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.HEADER_FONT_SIZE;
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.MAX_ROWS;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.RENDERER_FOR_COLUMN;
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.ROWS;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.RENDERER_FOR_TYPE;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.STRING_FORMAT_FOR_COLUMN;
 import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.STRING_FORMAT_FOR_TYPE;
@@ -376,6 +384,29 @@ public class TableDisplayTest {
     assertThat(valueAsList.get(1)).isNotNull();
   }
 
+  @Test
+  public void shouldEvaluateTooltipsOnlyForRequestedRowsOfLargeTable() throws Exception {
+    //given
+    tableDisplay.LAZY_CELL_PROPERTIES_LIMIT = 1;
+    AtomicInteger calls = new AtomicInteger();
+    tableDisplay.setTooltip((row, col, tbl) -> {
+      calls.incrementAndGet();
+      return "row " + row;
+    });
+    kernel.clearMessages();
+    //when
+    tableDisplay.sendCellProperties(asList(1));
+    tableDisplay.sendCellProperties(asList(1));
+    //then
+    assertThat(calls.get()).isEqualTo(tableDisplay.getColumnNames().size());
+    List<Message> custom = SearchMessages.getListByDataAttr(kernel.getPublishedMessages(), Comm.METHOD, BeakerxWidget.CUSTOM);
+    Map data = (Map) custom.get(0).getContent().get(Comm.DATA);
+    Map delta = (Map) data.get(BeakerxWidget.CONTENT);
+    assertThat(delta.get(BeakerxWidget.EVENT)).isEqualTo(CELL_PROPERTIES);
+    assertThat((List) delta.get(ROWS)).containsExactly(1);
+    assertThat((List) ((List) delta.get(TOOLTIPS)).get(0)).contains("row 1");
+  }
+
   @Test
   public void shouldSendCommMsgWhenSetFontColorProviderClojureChange() throws Exception {
     //when
@@ -398,6 +429,38 @@ public class TableDisplayTest {
     assertThat(actual.get(0).toString()).startsWith("#");
   }
 
+  @Test
+  public void shouldSendOnlyAppendedRowsWhenRowsAreAppended() throws Exception {
+    //given
+    tableDisplay.setMaxRows(2);
+    kernel.clearMessages();
+    //when
+    tableDisplay.appendRow(getRowData());
+    //then
+    assertThat(tableDisplay.getValues()).hasSize(2);
+    assertThat(SearchMessages.getListByDataAttr(kernel.getPublishedMessages(), Comm.METHOD, Comm.UPDATE)).isEmpty();
+    List<Message> custom = SearchMessages.getListByDataAttr(kernel.getPublishedMessages(), Comm.METHOD, BeakerxWidget.CUSTOM);
+    assertThat(custom).hasSize(1);
+    Map data = (Map) custom.get(0).getContent().get(Comm.DATA);
+    Map delta = (Map) data.get(BeakerxWidget.CONTENT);
+    assertThat(delta.get(BeakerxWidget.EVENT)).isEqualTo(APPEND_ROWS);
+    assertThat((List) delta.get(VALUES)).hasSize(1);
+    assertThat(delta.get(MAX_ROWS)).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldLimitFilteredValuesLikeValues() throws Exception {
+    //given
+    tableDisplay.ROWS_LIMIT = 1;
+    tableDisplay.ROW_LIMIT_TO_INDEX = 1;
+    //when
+    tableDisplay.setRowFilter((PureRowFilter) (row, values) -> true);
+    //then
+    assertThat(tableDisplay.getFilteredRows()).containsExactly(0, 1);
+    LinkedHashMap model = getModelUpdate();
+    assertThat(getValueAsList(model, FILTERED_VALUES)).hasSize(1);
+  }
+
   @Test
   public void shouldSendCommMsgWhenSetRowFilterClojureChange() throws Exception {
     //when
@@ -0,0 +1,75 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.util;
+
+import com.twosigma.beakerx.jvm.classloader.BeakerXUrlClassLoader;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassPathIndexTest {
+
+  private File dir;
+  private File jar;
+
+  @Before
+  public void setUp() throws Exception {
+    dir = Files.createTempDirectory("classPathIndexTest").toFile();
+    jar = new File(dir, "index-test.jar");
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry("org/indextest/sample/Sample.class"));
+      out.closeEntry();
+    }
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    FileUtils.deleteDirectory(dir);
+  }
+
+  @Test
+  public void shouldIndexJarAddedToClassLoader() throws Exception {
+    //given
+    BeakerXUrlClassLoader classLoader = new BeakerXUrlClassLoader();
+    ClassPathIndex index = ClassPathIndex.of(classLoader);
+    assertThat(index.packageExists("org.indextest.sample")).isFalse();
+    //when
+    classLoader.addJar(jar.toURI().toURL());
+    //then
+    assertThat(index.packageExists("org.indextest.sample")).isTrue();
+    assertThat(index.packageExists("org.indextest")).isTrue();
+    assertThat(index.packageExists("org.indextest.sam")).isFalse();
+  }
+
+  @Test
+  public void shouldShareIndexPerClassLoader() throws Exception {
+    //given
+    BeakerXUrlClassLoader classLoader = new BeakerXUrlClassLoader();
+    //when
+    ClassPathIndex index = ClassPathIndex.of(classLoader);
+    //then
+    assertThat(ClassPathIndex.of(classLoader)).isSameAs(index);
+  }
+}
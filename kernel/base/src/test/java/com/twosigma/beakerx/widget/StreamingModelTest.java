@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.widget;
+
+import com.twosigma.beakerx.KernelTest;
+import com.twosigma.beakerx.chart.ChartToJson;
+import com.twosigma.beakerx.chart.xychart.Plot;
+import com.twosigma.beakerx.chart.xychart.plotitem.Line;
+import com.twosigma.beakerx.kernel.KernelManager;
+import com.twosigma.beakerx.message.MessageSerializer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StreamingModelTest {
+
+  @Before
+  public void setUp() throws Exception {
+    KernelManager.register(new KernelTest());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    KernelManager.register(null);
+  }
+
+  @Test
+  public void shouldWriteSameJsonAsMaterializedModel() throws Exception {
+    //given
+    Plot plot = new Plot();
+    plot.add(new Line(asList(1, 2, 3), asList(4, 5, 6)));
+    Map<String, Object> streamed = new HashMap<>();
+    streamed.put("model", ChartToJson.toStreamingJson(plot));
+    Map<String, Object> materialized = new HashMap<>();
+    materialized.put("model", ChartToJson.toJson(plot));
+    //when
+    String json = new String(MessageSerializer.toJsonBytes(streamed), "UTF-8");
+    //then
+    assertThat(json).isEqualTo(MessageSerializer.toJson(materialized));
+  }
+
+  @Test
+  public void shouldKeepEntriesWhenChangedBeforeRead() throws Exception {
+    //given
+    Plot plot = new Plot();
+    Map<Object, Object> model = ChartToJson.toStreamingJson(plot);
+    //when
+    model.putIfAbsent("extra", 1);
+    model.merge("extra", 1, (a, b) -> (Integer) a + (Integer) b);
+    //then
+    assertThat(model.get("extra")).isEqualTo(2);
+    assertThat(model).containsKeys("type", "extra");
+    assertThat(MessageSerializer.toJson(model)).contains("\"extra\":2");
+  }
+
+  @Test
+  public void shouldWriteEntriesWithJavaSerialization() throws Exception {
+    //given
+    Plot plot = new Plot();
+    Map<Object, Object> model = ChartToJson.toStreamingJson(plot);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    //when
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(model);
+    }
+    //then
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Map<?, ?> read = (Map<?, ?>) in.readObject();
+      assertThat(read).isEqualTo(ChartToJson.toJson(plot));
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.widget;
+
+import com.twosigma.beakerx.KernelTest;
+import com.twosigma.beakerx.chart.xychart.XYChart;
+import com.twosigma.beakerx.kernel.KernelManager;
+import com.twosigma.beakerx.table.TableDisplay;
+import com.twosigma.beakerx.table.RowFilter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.twosigma.beakerx.table.serializer.TableDisplaySerializer.FILTERED_VALUES;
+import static com.twosigma.beakerx.widget.TestWidgetUtils.getMessageUpdate;
+import static com.twosigma.beakerx.widget.TestWidgetUtils.getValueForProperty;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WidgetDataStoreTest {
+
+  private static final long IDLE_MILLIS = 1000;
+
+  private AtomicLong clock = new AtomicLong(0);
+  private WidgetDataStore sut = new WidgetDataStore(IDLE_MILLIS, 0, clock::get);
+  private KernelTest kernel;
+
+  @Before
+  public void setUp() throws Exception {
+    kernel = new KernelTest();
+    KernelManager.register(kernel);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    KernelManager.register(null);
+  }
+
+  @Test
+  public void shouldSpillIdleTableAndRestoreItOnUse() {
+    //given
+    TableDisplay table = table(100);
+    sut.register(table);
+    clock.addAndGet(IDLE_MILLIS + 1);
+    sut.evictIdle();
+    assertThat(sut.largest(1).get(0).isSpilled()).isTrue();
+    //when
+    sut.touch(table);
+    //then
+    assertThat(sut.largest(1).get(0).isSpilled()).isFalse();
+    assertThat(table.getValues()).hasSize(100);
+    assertThat(table.getValues().get(99)).containsExactly(99, "row 99");
+  }
+
+  @Test
+  public void shouldKeepValuesHandedOutBeforeSpill() {
+    //given
+    TableDisplay table = table(100);
+    sut.register(table);
+    List<List<?>> values = table.getValues();
+    clock.addAndGet(IDLE_MILLIS + 1);
+    //when
+    sut.evictIdle();
+    //then
+    assertThat(sut.largest(1).get(0).isSpilled()).isTrue();
+    assertThat(values).hasSize(100);
+  }
+
+  @Test
+  public void shouldFilterRowsOfSpilledTable() {
+    //given
+    TableDisplay table = table(100);
+    table.display();
+    sut.register(table);
+    clock.addAndGet(IDLE_MILLIS + 1);
+    sut.evictIdle();
+    kernel.clearMessages();
+    //when
+    table.setRowFilter((RowFilter) (row, values) -> row < 10);
+    //then
+    assertThat(table.getFilteredRows()).hasSize(10);
+    Map model = getValueForProperty(getMessageUpdate(kernel).get(), XYChart.MODEL_UPDATE, Map.class);
+    assertThat((List) model.get(FILTERED_VALUES)).hasSize(10);
+  }
+
+  @Test
+  public void shouldKeepRecentlyUsedTableInMemory() {
+    //given
+    TableDisplay table = table(100);
+    sut.register(table);
+    clock.addAndGet(IDLE_MILLIS + 1);
+    sut.touch(table);
+    //when
+    sut.evictIdle();
+    //then
+    assertThat(sut.largest(1).get(0).isSpilled()).isFalse();
+    assertThat(table.getValues()).hasSize(100);
+  }
+
+  @Test
+  public void shouldReportLargestWidgetsFirst() {
+    //given
+    TableDisplay small = table(10);
+    TableDisplay large = table(1000);
+    sut.register(small);
+    sut.register(large);
+    //when
+    List<WidgetDataStore.WidgetInfo> largest = sut.largest(1);
+    //then
+    assertThat(largest).hasSize(1);
+    assertThat(largest.get(0).getCommId()).isEqualTo(large.getComm().getCommId());
+    assertThat(largest.get(0).getName()).isEqualTo("TableDisplay");
+  }
+
+  @Test
+  public void shouldForgetUnregisteredWidget() {
+    //given
+    TableDisplay table = table(10);
+    sut.register(table);
+    //when
+    sut.unregister(table.getComm().getCommId());
+    //then
+    assertThat(sut.largest(10)).isEmpty();
+  }
+
+  private TableDisplay table(int rows) {
+    List<List<?>> values = new ArrayList<>();
+    for (int row = 0; row < rows; row++) {
+      values.add(asList(row, "row " + row));
+    }
+    return new TableDisplay(values, asList("index", "name"), asList("integer", "string"));
+  }
+}
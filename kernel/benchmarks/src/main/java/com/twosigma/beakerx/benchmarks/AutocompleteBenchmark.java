@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.benchmarks;
+
+import com.twosigma.beakerx.autocomplete.AutocompleteCandidate;
+import com.twosigma.beakerx.autocomplete.AutocompleteRegistry;
+import com.twosigma.beakerx.autocomplete.GenericCompletionTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Completion of a package prefix in a registry filled with dotted class names, like the imports of a notebook.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutocompleteBenchmark {
+
+  @Param({"1000", "50000"})
+  public int candidates;
+
+  private AutocompleteRegistry registry;
+  private List<AutocompleteCandidate> search;
+
+  @Setup
+  public void setUp() {
+    registry = new AutocompleteRegistry(GenericCompletionTypes.NUM_TYPES);
+    for (int i = 0; i < candidates; i++) {
+      String[] name = {"com", "company" + (i % 50), "module" + (i % 500), "Class" + i};
+      registry.addCandidate(new AutocompleteCandidate(GenericCompletionTypes.FIELD, name));
+    }
+    search = singletonList(new AutocompleteCandidate(GenericCompletionTypes.FIELD, new String[]{"com", "company7", "module"}));
+  }
+
+  @Benchmark
+  public List<String> searchCandidates() {
+    return registry.searchCandidates(search);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twosigma.beakerx.jvm.serialization.BasicObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Writing a list of records, the shape autotranslation and table conversion pass through writeObject.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasicObjectSerializerBenchmark {
+
+  @Param({"100", "10000"})
+  public int records;
+
+  private BasicObjectSerializer serializer;
+  private JsonFactory jsonFactory;
+  private List<Map<String, Object>> value;
+  private ByteArrayOutputStream out;
+
+  @Setup
+  public void setUp() {
+    serializer = new BasicObjectSerializer();
+    jsonFactory = new JsonFactory(new ObjectMapper());
+    value = new ArrayList<>(records);
+    for (int i = 0; i < records; i++) {
+      Map<String, Object> record = new LinkedHashMap<>();
+      record.put("id", i);
+      record.put("price", i * 1.25);
+      record.put("symbol", "SYM" + i);
+      record.put("date", new Date(1500000000000L + i));
+      record.put("tags", asList("a", "b", "c"));
+      value.add(record);
+    }
+    out = new ByteArrayOutputStream(records * 128);
+  }
+
+  @Benchmark
+  public void writeObject(Blackhole blackhole) throws IOException {
+    out.reset();
+    try (JsonGenerator jgen = jsonFactory.createGenerator(out)) {
+      blackhole.consume(serializer.writeObject(value, jgen, true));
+    }
+    blackhole.consume(out.size());
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.benchmarks;
+
+import com.twosigma.beakerx.KernelTest;
+import com.twosigma.beakerx.chart.ChartToJson;
+import com.twosigma.beakerx.chart.xychart.Plot;
+import com.twosigma.beakerx.chart.xychart.plotitem.Line;
+import com.twosigma.beakerx.kernel.KernelManager;
+import com.twosigma.beakerx.message.MessageSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing the model of a plot with one large XY series into message bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ChartSerializationBenchmark {
+
+  @Param({"10000", "100000", "1000000"})
+  public int points;
+
+  private Plot plot;
+
+  @Setup
+  public void setUp() {
+    KernelManager.register(new KernelTest());
+    List<Object> xs = new ArrayList<>(points);
+    List<Number> ys = new ArrayList<>(points);
+    for (int i = 0; i < points; i++) {
+      xs.add(i);
+      ys.add(Math.sin(i / 100.0));
+    }
+    Line line = new Line();
+    line.setX(xs);
+    line.setY(ys);
+    plot = new Plot();
+    plot.add(line);
+  }
+
+  @TearDown
+  public void tearDown() {
+    KernelManager.register(null);
+  }
+
+  @Benchmark
+  public byte[] serializeModel() {
+    return MessageSerializer.toJsonBytes(ChartToJson.toStreamingJson(plot));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.benchmarks;
+
+import com.twosigma.beakerx.BeakerXCommRepository;
+import com.twosigma.beakerx.kernel.comm.Comm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comm lookups of many threads against a repository holding thousands of widgets, as comm messages do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class CommRepositoryBenchmark {
+
+  private static final int COMMS = 5000;
+
+  private BeakerXCommRepository repository;
+  private String[] commIds;
+
+  @Setup
+  public void setUp() {
+    repository = new BeakerXCommRepository();
+    commIds = new String[COMMS];
+    for (int i = 0; i < COMMS; i++) {
+      Comm comm = new Comm(i % 10 == 0 ? "beakerx.tableDisplay" : "jupyter.widget");
+      repository.addComm(comm.getCommId(), comm);
+      commIds[i] = comm.getCommId();
+    }
+  }
+
+  @Benchmark
+  public Comm commMessage() {
+    return repository.getComm(commIds[ThreadLocalRandom.current().nextInt(COMMS)]);
+  }
+
+  @Benchmark
+  public Comm commByTargetName() {
+    return repository.getCommByTargetName("beakerx.tableDisplay");
+  }
+
+  @Benchmark
+  public boolean openAndClose() {
+    Comm comm = new Comm("jupyter.widget");
+    repository.addComm(comm.getCommId(), comm);
+    boolean present = repository.isCommPresent(comm.getCommId());
+    repository.removeComm(comm.getCommId());
+    return present;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.benchmarks;
+
+import com.twosigma.beakerx.kernel.msg.JupyterMessages;
+import com.twosigma.beakerx.message.Header;
+import com.twosigma.beakerx.message.Message;
+import com.twosigma.beakerx.message.MessageSerializer;
+import com.twosigma.beakerx.security.HashedMessageAuthenticationCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * The frame encoding, signing, parsing and verification KernelSocketsZMQ does for every message, without the sockets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageEncodingBenchmark {
+
+  @Param({"100", "100000"})
+  public int contentSize;
+
+  private HashedMessageAuthenticationCode hmac;
+  private Message message;
+  private List<byte[]> frames;
+  private byte[] signature;
+
+  @Setup
+  public void setUp() {
+    hmac = new HashedMessageAuthenticationCode("5f1a7b1c-1d0e-4a54-9d2b-0c1e3f4a5b6c");
+    message = new Message(new Header(JupyterMessages.EXECUTE_RESULT, "session"));
+    message.setParentHeader(new Header(JupyterMessages.EXECUTE_REQUEST, "session"));
+    message.setMetadata(new HashMap<>());
+    char[] text = new char[contentSize];
+    Arrays.fill(text, 'x');
+    HashMap<String, Serializable> data = new LinkedHashMap<>();
+    data.put("text/plain", new String(text));
+    Map<String, Serializable> content = new LinkedHashMap<>();
+    content.put("execution_count", 1);
+    content.put("data", data);
+    content.put("metadata", new HashMap<>());
+    message.setContent(content);
+    frames = encode();
+    signature = hmac.signBytes(frames).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String encodeAndSign() {
+    return hmac.signBytes(encode());
+  }
+
+  @Benchmark
+  public Message verifyAndDecode() {
+    String actual = hmac.signBytes(frames);
+    if (!actual.equals(new String(signature, StandardCharsets.UTF_8))) {
+      throw new IllegalStateException("Signatures do not match.");
+    }
+    Message decoded = new Message(MessageSerializer.parse(frames.get(0), Header.class));
+    decoded.setParentHeader(MessageSerializer.parse(frames.get(1), Header.class));
+    decoded.setMetadata(MessageSerializer.parse(frames.get(2), LinkedHashMap.class));
+    decoded.setContent(MessageSerializer.parse(frames.get(3), LinkedHashMap.class));
+    return decoded;
+  }
+
+  private List<byte[]> encode() {
+    return asList(
+            MessageSerializer.toJsonBytes(message.getHeader()),
+            MessageSerializer.toJsonBytes(message.getParentHeader()),
+            MessageSerializer.toJsonBytes(message.getMetadata()),
+            MessageSerializer.toJsonBytes(message.getContent()));
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.benchmarks;
+
+import com.twosigma.beakerx.KernelTest;
+import com.twosigma.beakerx.kernel.KernelManager;
+import com.twosigma.beakerx.message.MessageSerializer;
+import com.twosigma.beakerx.table.TableDisplay;
+import com.twosigma.beakerx.table.TableDisplayToJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Writing the model of a table into message bytes, tables above the row limit only send their preview.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class TableDisplaySerializationBenchmark {
+
+  @Param({"10000", "100000", "1000000"})
+  public int rows;
+
+  private TableDisplay table;
+
+  @Setup
+  public void setUp() {
+    KernelManager.register(new KernelTest());
+    List<List<?>> values = new ArrayList<>(rows);
+    for (int row = 0; row < rows; row++) {
+      values.add(asList(row, row * 0.5, "name " + row, row % 2 == 0, (long) row * 1000));
+    }
+    table = new TableDisplay(values,
+            asList("id", "value", "name", "even", "time"),
+            asList("integer", "double", "string", "boolean", "int64"));
+  }
+
+  @TearDown
+  public void tearDown() {
+    KernelManager.register(null);
+  }
+
+  @Benchmark
+  public byte[] serializeModel() {
+    return MessageSerializer.toJsonBytes(TableDisplayToJson.toStreamingJson(table));
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.twosigma.beakerx.clojure.evaluator;
 
+import clojure.lang.Agent;
 import clojure.lang.DynamicClassLoader;
 import clojure.lang.Namespace;
 import clojure.lang.RT;
@@ -55,8 +56,11 @@ public class ClojureEvaluator extends BaseEvaluator {
   public static final String beaker_clojure_ns = "beaker_clojure_shell";
   private final static Logger logger = LoggerFactory.getLogger(ClojureEvaluator.class.getName());
 
+  private static String initScriptSource;
+
   private List<String> requirements;
   private DynamicClassLoader loader;
+  private List<PathToJar> loaderClasspath = new ArrayList<>();
   private Var clojureLoadString = null;
   private ClojureAutocomplete clojureAutocomplete;
 
@@ -91,15 +95,14 @@ public class ClojureEvaluator extends BaseEvaluator {
   }
 
   private void killClojureThreads() {
-    runCode("(import 'clojure.lang.Agent)\n" +
-            "(.shutdownNow Agent/soloExecutor)\n" +
-            "(import 'java.util.concurrent.Executors) \n" +
-            "(set! Agent/soloExecutor (Executors/newCachedThreadPool))");
+    Agent.soloExecutor.shutdownNow();
+    Agent.soloExecutor = Executors.newCachedThreadPool();
   }
 
   @Override
   protected void addJarToClassLoader(PathToJar pathToJar) {
     loader.addURL(pathToJar.getUrl());
+    loaderClasspath.add(pathToJar);
   }
 
   @Override
@@ -175,7 +178,10 @@ public class ClojureEvaluator extends BaseEvaluator {
   }
 
   private void init() {
-    loader = ClojureClassLoaderFactory.newInstance(classPath, outDir);
+    if (loader == null || !loaderClasspath.equals(classPath.getPaths())) {
+      loader = ClojureClassLoaderFactory.newInstance(classPath, outDir);
+      loaderClasspath = new ArrayList<>(classPath.getPaths());
+    }
     String loadFunctionPrefix = "run_str";
     try {
       String clojureInitScript = String.format(initScriptSource(),
@@ -198,6 +204,13 @@ public class ClojureEvaluator extends BaseEvaluator {
   }
 
   private String initScriptSource() throws Exception {
+    if (initScriptSource == null) {
+      initScriptSource = readInitScriptSource();
+    }
+    return initScriptSource;
+  }
+
+  private String readInitScriptSource() throws Exception {
     InputStream in = this.getClass().getResourceAsStream("/init_clojure_script.txt");
     BufferedReader reader = new BufferedReader(new InputStreamReader(in));
     StringBuilder result = new StringBuilder("");
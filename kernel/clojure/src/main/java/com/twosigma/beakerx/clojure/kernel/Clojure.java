@@ -26,6 +26,7 @@ import com.twosigma.beakerx.clojure.handlers.ClojureCommOpenHandler;
 import com.twosigma.beakerx.clojure.handlers.ClojureKernelInfoHandler;
 import com.twosigma.beakerx.evaluator.ClasspathScannerImpl;
 import com.twosigma.beakerx.evaluator.Evaluator;
+import com.twosigma.beakerx.evaluator.LazyEvaluator;
 import com.twosigma.beakerx.handler.KernelHandler;
 import com.twosigma.beakerx.kernel.BeakerXJsonConfig;
 import com.twosigma.beakerx.kernel.Configuration;
@@ -81,12 +82,12 @@ public class Clojure extends Kernel {
               configurationFile);
       NamespaceClient namespaceClient = NamespaceClient.create(id, configurationFile, new ClojureBeakerXJsonSerializer(), beakerXCommRepository);
       MagicCommandConfiguration magicConfiguration = new MagicCommandConfigurationImpl();
-      ClojureEvaluator evaluator = new ClojureEvaluator(id,
-              id,
-              getKernelParameters(),
-              namespaceClient,
-              magicConfiguration.patterns(),
-              new ClasspathScannerImpl());
+      Evaluator evaluator = new LazyEvaluator(() -> new ClojureEvaluator(id,
+                id,
+                getKernelParameters(),
+                namespaceClient,
+                magicConfiguration.patterns(),
+                new ClasspathScannerImpl()));
       return new Clojure(id,
               evaluator,
               new Configuration(
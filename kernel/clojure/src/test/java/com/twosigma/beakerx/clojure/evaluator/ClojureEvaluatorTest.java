@@ -8,10 +8,12 @@ import com.twosigma.beakerx.evaluator.MagicCommandAutocompletePatternsMock;
 import com.twosigma.beakerx.evaluator.TempFolderFactory;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import static com.twosigma.beakerx.evaluator.EvaluatorTest.KERNEL_PARAMETERS;
 import static com.twosigma.beakerx.evaluator.EvaluatorTest.getTestTempFolderFactory;
 import static com.twosigma.beakerx.evaluator.TestBeakerCellExecutor.cellExecutor;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class ClojureEvaluatorTest extends EvaluatorBaseTest {
 
@@ -82,4 +84,14 @@ public class ClojureEvaluatorTest extends EvaluatorBaseTest {
   protected String codeForPrintln() {
     return "(println \"Will print\")";
   }
+
+  @Test
+  public void reuseClassLoaderWhenJarsDidNotChange() throws Exception {
+    //given
+    ClassLoader classLoader = evaluator.getClassLoader();
+    //when
+    evaluator.resetEnvironment();
+    //then
+    assertThat(evaluator.getClassLoader()).isEqualTo(classLoader);
+  }
 }
\ No newline at end of file
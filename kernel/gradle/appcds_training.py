@@ -0,0 +1,108 @@
+# Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#        http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+
+'''Runs a training notebook against a BeakerX kernel started from the given classpath.
+
+With --dump-class-list the kernel JVM records the classes it loads, the list is used to build
+an AppCDS archive. With --archive the notebook is run without and with the archive and the time
+to first result of both runs is written to --report.'''
+
+import argparse
+import json
+import os
+import shutil
+import tempfile
+import time
+
+from jupyter_client import KernelManager
+from jupyter_client.kernelspec import KernelSpecManager
+
+KERNEL_NAME = 'beakerx-cds-training'
+TIMEOUT = 300
+
+
+def _code_cells(notebook):
+    with open(notebook) as f:
+        nb = json.load(f)
+    return [''.join(cell['source']) for cell in nb['cells'] if cell['cell_type'] == 'code']
+
+
+def _execute(client, code):
+    msg_id = client.execute(code)
+    while True:
+        reply = client.get_shell_msg(timeout=TIMEOUT)
+        if reply['parent_header'].get('msg_id') == msg_id:
+            if reply['content']['status'] != 'ok':
+                raise RuntimeError('Training cell failed: ' + code)
+            return
+
+
+def run_notebook(classpath, main, notebook, jvm_options):
+    '''Returns the seconds from kernel start to the result of the first cell.'''
+    spec_dir = tempfile.mkdtemp()
+    try:
+        os.mkdir(os.path.join(spec_dir, KERNEL_NAME))
+        with open(os.path.join(spec_dir, KERNEL_NAME, 'kernel.json'), 'w') as f:
+            json.dump({'argv': ['java'] + jvm_options + ['-cp', classpath, main, '{connection_file}'],
+                       'display_name': KERNEL_NAME,
+                       'language': KERNEL_NAME}, f)
+        manager = KernelManager(kernel_name=KERNEL_NAME,
+                                kernel_spec_manager=KernelSpecManager(kernel_dirs=[spec_dir]))
+        start = time.time()
+        manager.start_kernel()
+        client = manager.client()
+        client.start_channels()
+        try:
+            client.wait_for_ready(timeout=TIMEOUT)
+            cells = _code_cells(notebook)
+            _execute(client, cells[0])
+            first_result = time.time() - start
+            for code in cells[1:]:
+                _execute(client, code)
+            return first_result
+        finally:
+            client.stop_channels()
+            manager.shutdown_kernel(now=False)
+    finally:
+        shutil.rmtree(spec_dir, ignore_errors=True)
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__)
+    parser.add_argument('--classpath', required=True)
+    parser.add_argument('--main', required=True)
+    parser.add_argument('--notebook', required=True)
+    parser.add_argument('--dump-class-list')
+    parser.add_argument('--archive')
+    parser.add_argument('--report')
+    args = parser.parse_args()
+
+    if args.dump_class_list:
+        run_notebook(args.classpath, args.main, args.notebook,
+                     ['-Xshare:off', '-XX:DumpLoadedClassList=' + args.dump_class_list])
+    if args.archive:
+        before = run_notebook(args.classpath, args.main, args.notebook, ['-Xshare:auto'])
+        after = run_notebook(args.classpath, args.main, args.notebook,
+                             ['-Xshare:auto', '-XX:SharedArchiveFile=' + args.archive])
+        report = ('Time to first result for %s\n'
+                  '  without AppCDS archive: %.2f s\n'
+                  '  with AppCDS archive:    %.2f s\n') % (args.main, before, after)
+        if args.report:
+            with open(args.report, 'w') as f:
+                f.write(report)
+        print(report)
+
+
+if __name__ == '__main__':
+    main()
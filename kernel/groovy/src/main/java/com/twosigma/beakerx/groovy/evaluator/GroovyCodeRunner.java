@@ -18,6 +18,7 @@ package com.twosigma.beakerx.groovy.evaluator;
 import com.twosigma.beakerx.TryResult;
 import com.twosigma.beakerx.evaluator.Evaluator;
 import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
+import com.twosigma.beakerx.kernel.KernelMetrics;
 import groovy.lang.Script;
 import org.codehaus.groovy.runtime.StackTraceUtils;
 
@@ -50,7 +51,9 @@ class GroovyCodeRunner implements Callable<TryResult> {
       Object result = null;
       theOutput.setOutputHandler();
       scriptName += System.currentTimeMillis();
+      long start = KernelMetrics.start();
       Class<?> parsedClass = groovyEvaluator.getGroovyClassLoader().parseClass(theCode, scriptName);
+      KernelMetrics.record(KernelMetrics.Stage.COMPILE, start);
       if (canBeInstantiated(parsedClass)) {
         Object instance = parsedClass.newInstance();
         if (instance instanceof Script) {
@@ -19,6 +19,7 @@ import com.twosigma.beakerx.BeakerXCommRepository;
 import com.twosigma.beakerx.NamespaceClient;
 import com.twosigma.beakerx.evaluator.ClasspathScannerImpl;
 import com.twosigma.beakerx.evaluator.Evaluator;
+import com.twosigma.beakerx.evaluator.LazyEvaluator;
 import com.twosigma.beakerx.groovy.comm.GroovyCommOpenHandler;
 import com.twosigma.beakerx.groovy.evaluator.GroovyEvaluator;
 import com.twosigma.beakerx.groovy.handler.GroovyKernelInfoHandler;
@@ -68,12 +69,12 @@ public class Groovy extends Kernel {
       BeakerXCommRepository beakerXCommRepository = new BeakerXCommRepository();
       NamespaceClient namespaceClient = NamespaceClient.create(id, configurationFile, beakerXCommRepository);
       MagicCommandConfiguration magicCommandTypesFactory = new MagicCommandConfigurationImpl();
-      GroovyEvaluator evaluator = new GroovyEvaluator(id,
-              id,
-              getEvaluatorParameters(),
-              namespaceClient,
-              magicCommandTypesFactory.patterns(),
-              new ClasspathScannerImpl());
+      Evaluator evaluator = new LazyEvaluator(() -> new GroovyEvaluator(id,
+                id,
+                getEvaluatorParameters(),
+                namespaceClient,
+                magicCommandTypesFactory.patterns(),
+                new ClasspathScannerImpl()));
       return new Groovy(id,
               evaluator,
               new Configuration(
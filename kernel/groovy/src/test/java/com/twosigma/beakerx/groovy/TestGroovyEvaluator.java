@@ -27,7 +27,9 @@ import com.twosigma.beakerx.groovy.evaluator.GroovyEvaluator;
 import com.twosigma.beakerx.groovy.kernel.GroovyDefaultVariables;
 import com.twosigma.beakerx.kernel.EvaluatorParameters;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.function.Function;
 
 import static com.twosigma.beakerx.DefaultJVMVariables.IMPORTS;
 import static com.twosigma.beakerx.evaluator.EvaluatorTest.getTestTempFolderFactory;
@@ -47,6 +49,11 @@ public class TestGroovyEvaluator {
         return null;
       }
 
+      @Override
+      public Object get(String name, Function<Reader, Object> parser) {
+        return null;
+      }
+
       @Override
       public String close() {
         return null;
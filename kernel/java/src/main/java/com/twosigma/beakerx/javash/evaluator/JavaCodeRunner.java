@@ -19,6 +19,7 @@ import com.twosigma.beakerx.TryResult;
 import com.twosigma.beakerx.evaluator.InternalVariable;
 import com.twosigma.beakerx.evaluator.JobDescriptor;
 import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
+import com.twosigma.beakerx.kernel.KernelMetrics;
 import org.abstractmeta.toolbox.compilation.compiler.JavaSourceCompiler;
 
 import java.io.File;
@@ -143,7 +144,9 @@ class JavaCodeRunner implements Callable<TryResult> {
     codev.javaSourceCode.append("}\n");
 
     compilationUnit.addJavaSource(codev.getPname() + "." + JavaEvaluator.WRAPPER_CLASS_NAME + classId, codev.javaSourceCode.toString());
+    long start = KernelMetrics.start();
     boolean compile = javaSourceCompiler.compile(javaEvaluator.getClassLoader(), compilationUnit);
+    KernelMetrics.record(KernelMetrics.Stage.COMPILE, start);
     if (compile) {
       javaSourceCompiler.persistCompiledClasses(compilationUnit);
       return true;
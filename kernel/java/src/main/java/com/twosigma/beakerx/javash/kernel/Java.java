@@ -20,6 +20,7 @@ import com.twosigma.beakerx.CommRepository;
 import com.twosigma.beakerx.NamespaceClient;
 import com.twosigma.beakerx.evaluator.ClasspathScannerImpl;
 import com.twosigma.beakerx.evaluator.Evaluator;
+import com.twosigma.beakerx.evaluator.LazyEvaluator;
 import com.twosigma.beakerx.handler.KernelHandler;
 import com.twosigma.beakerx.javash.comm.JavaCommOpenHandler;
 import com.twosigma.beakerx.javash.evaluator.JavaEvaluator;
@@ -69,12 +70,12 @@ public class Java extends Kernel {
               configurationFile);
       NamespaceClient beakerxClient = NamespaceClient.create(id, configurationFile, commRepository);
       MagicCommandConfiguration magicConfiguration = new MagicCommandConfigurationImpl();
-      JavaEvaluator e = new JavaEvaluator(id,
-              id,
-              getKernelParameters(),
-              beakerxClient,
-              magicConfiguration.patterns(),
-              new ClasspathScannerImpl());
+      Evaluator e = new LazyEvaluator(() -> new JavaEvaluator(id,
+                id,
+                getKernelParameters(),
+                beakerxClient,
+                magicConfiguration.patterns(),
+                new ClasspathScannerImpl()));
       return new Java(id,
               e,
               new Configuration(
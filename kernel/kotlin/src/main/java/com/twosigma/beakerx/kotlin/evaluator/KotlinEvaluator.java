@@ -35,9 +35,16 @@ import com.twosigma.beakerx.kernel.ImportPath;
 import com.twosigma.beakerx.kernel.PathToJar;
 import org.jetbrains.kotlin.cli.common.repl.ReplClassLoader;
 import org.jetbrains.kotlin.cli.jvm.repl.ReplInterpreter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.twosigma.beakerx.kotlin.evaluator.ReplWithClassLoaderFactory.createParentClassLoader;
 import static com.twosigma.beakerx.kotlin.evaluator.ReplWithClassLoaderFactory.createReplWithKotlinParentClassLoader;
@@ -47,8 +54,16 @@ import static java.util.Collections.singletonList;
 
 public class KotlinEvaluator extends BaseEvaluator {
 
+  private final static Logger logger = LoggerFactory.getLogger(KotlinEvaluator.class.getName());
+
   private AutocompleteClasspathScanner cps;
   private ReplInterpreter repl;
+  private Future<ReplInterpreter> pendingRepl;
+  private final ExecutorService replExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "kotlin-repl");
+    thread.setDaemon(true);
+    return thread;
+  });
   private ReplClassLoader loader = null;
   private BeakerXUrlClassLoader kotlinClassLoader;
   private KotlinAutocomplete kotlinAutocomplete;
@@ -83,7 +98,8 @@ public class KotlinEvaluator extends BaseEvaluator {
   }
 
   @Override
-  protected void doResetEnvironment() {
+  protected synchronized void doResetEnvironment() {
+    cancelPendingRepl();
     String cpp = createClasspath(classPath, outDir);
     cps = new AutocompleteClasspathScanner(cpp);
     createRepl();
@@ -102,12 +118,36 @@ public class KotlinEvaluator extends BaseEvaluator {
   @Override
   protected void addJarToClassLoader(PathToJar pathToJar) {
     kotlinClassLoader.addJar(pathToJar);
-    repl = createReplWithReplClassLoader(this, loader);
+  }
+
+  /**
+   * Jars are already on the shared parent class loader, only the compiler needs them. The REPL is rebuilt
+   * once per added batch, in the background, and the previous line classes stay in the reused ReplClassLoader.
+   */
+  @Override
+  protected synchronized void doReloadEvaluator() {
+    cancelPendingRepl();
+    List<String> classpath = new ArrayList<>(getClasspath().getPathsAsStrings());
+    List<ImportPath> imports = new ArrayList<>(getImports().getImportPaths());
+    ReplClassLoader replClassLoader = loader;
+    pendingRepl = replExecutor.submit(() -> {
+      long start = System.currentTimeMillis();
+      ReplInterpreter replInterpreter = createReplWithReplClassLoader(classpath, imports, replClassLoader);
+      logger.debug("Kotlin REPL rebuilt in {} ms", System.currentTimeMillis() - start);
+      return replInterpreter;
+    });
+  }
+
+  private void cancelPendingRepl() {
+    if (pendingRepl != null) {
+      pendingRepl.cancel(false);
+      pendingRepl = null;
+    }
   }
 
   @Override
   protected void addImportToClassLoader(ImportPath anImport) {
-    repl.eval(getImportString(singletonList(anImport)));
+    getRepl().eval(getImportString(singletonList(anImport)));
   }
 
   @Override
@@ -120,6 +160,7 @@ public class KotlinEvaluator extends BaseEvaluator {
     super.exit();
     killAllThreads();
     executorService.shutdown();
+    replExecutor.shutdownNow();
   }
 
   @Override
@@ -145,7 +186,19 @@ public class KotlinEvaluator extends BaseEvaluator {
     return cpp;
   }
 
-  public ReplInterpreter getRepl() {
+  public synchronized ReplInterpreter getRepl() {
+    if (pendingRepl != null) {
+      try {
+        repl = pendingRepl.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      } catch (ExecutionException e) {
+        logger.warn("Kotlin REPL rebuild failed, retrying", e.getCause());
+        repl = createReplWithReplClassLoader(this, loader);
+      }
+      pendingRepl = null;
+    }
     return repl;
   }
 }
@@ -44,10 +44,17 @@ public class ReplWithClassLoaderFactory {
   }
 
   public static ReplInterpreter createReplWithReplClassLoader(KotlinEvaluator kotlinEvaluator, ReplClassLoader classLoader) {
-    CompilerConfiguration compilerConfiguration = getCompilerConfiguration(getClasspath(), kotlinEvaluator);
+    return createReplWithReplClassLoader(
+            kotlinEvaluator.getClasspath().getPathsAsStrings(),
+            kotlinEvaluator.getImports().getImportPaths(),
+            classLoader);
+  }
+
+  public static ReplInterpreter createReplWithReplClassLoader(List<String> evaluatorClasspath, List<ImportPath> importPaths, ReplClassLoader classLoader) {
+    CompilerConfiguration compilerConfiguration = getCompilerConfiguration(getClasspath(), evaluatorClasspath);
     ReplInterpreter replInterpreter = new ReplInterpreter(newDisposable(), compilerConfiguration, new ConsoleReplConfiguration());
     setupReplClassLoader(classLoader, replInterpreter);
-    replInterpreter.eval(getImportString(kotlinEvaluator.getImports().getImportPaths()));
+    replInterpreter.eval(getImportString(importPaths));
     return replInterpreter;
   }
 
@@ -78,7 +85,7 @@ public class ReplWithClassLoaderFactory {
   }
 
   private static ReplWithClassLoader createReplInterpreter(String[] classpathEntries, ClassLoader parent, KotlinEvaluator kotlinEvaluator) {
-    CompilerConfiguration compilerConfiguration = getCompilerConfiguration(classpathEntries, kotlinEvaluator);
+    CompilerConfiguration compilerConfiguration = getCompilerConfiguration(classpathEntries, kotlinEvaluator.getClasspath().getPathsAsStrings());
     ReplInterpreter replInterpreter = new ReplInterpreter(newDisposable(), compilerConfiguration, new ConsoleReplConfiguration());
     ReplClassLoader loader = getReplClassLoader(parent, replInterpreter);
     replInterpreter.eval(getImportString(kotlinEvaluator.getImports().getImportPaths()));
@@ -116,13 +123,13 @@ public class ReplWithClassLoaderFactory {
   }
 
   @NotNull
-  private static CompilerConfiguration getCompilerConfiguration(String[] classpathEntries, KotlinEvaluator kotlinEvaluator) {
+  private static CompilerConfiguration getCompilerConfiguration(String[] classpathEntries, List<String> evaluatorClasspath) {
     CompilerConfiguration compilerConfiguration = new CompilerConfiguration();
     compilerConfiguration.put(CommonConfigurationKeys.MODULE_NAME, "kotlinModule" + System.currentTimeMillis());
     compilerConfiguration.put(JVMConfigurationKeys.RETAIN_OUTPUT_IN_MEMORY, true);
     addJvmClasspathRoots(compilerConfiguration, PathUtil.getJdkClassesRootsFromCurrentJre());
     Arrays.stream(classpathEntries).forEach(x -> addJvmClasspathRoot(compilerConfiguration, new File(x)));
-    kotlinEvaluator.getClasspath().getPathsAsStrings().forEach(x -> addJvmClasspathRoot(compilerConfiguration, new File(x)));
+    evaluatorClasspath.forEach(x -> addJvmClasspathRoot(compilerConfiguration, new File(x)));
     return compilerConfiguration;
   }
 
@@ -20,6 +20,7 @@ import com.twosigma.beakerx.CommRepository;
 import com.twosigma.beakerx.NamespaceClient;
 import com.twosigma.beakerx.evaluator.ClasspathScannerImpl;
 import com.twosigma.beakerx.evaluator.Evaluator;
+import com.twosigma.beakerx.evaluator.LazyEvaluator;
 import com.twosigma.beakerx.handler.KernelHandler;
 import com.twosigma.beakerx.kernel.BeakerXJsonConfig;
 import com.twosigma.beakerx.kernel.Configuration;
@@ -75,12 +76,12 @@ public class Kotlin extends Kernel {
               configurationFile);
       NamespaceClient beakerxClient = NamespaceClient.create(id, configurationFile, commRepository);
       MagicCommandConfiguration magicConfiguration = new MagicCommandConfigurationImpl();
-      KotlinEvaluator e = new KotlinEvaluator(id,
-              id,
-              getKernelParameters(),
-              beakerxClient,
-              magicConfiguration.patterns(),
-              new ClasspathScannerImpl());
+      Evaluator e = new LazyEvaluator(() -> new KotlinEvaluator(id,
+                id,
+                getKernelParameters(),
+                beakerxClient,
+                magicConfiguration.patterns(),
+                new ClasspathScannerImpl()));
       return new Kotlin(id,
               e,
               new Configuration(
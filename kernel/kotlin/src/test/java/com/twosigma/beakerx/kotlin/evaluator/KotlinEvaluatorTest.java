@@ -23,6 +23,7 @@ import com.twosigma.beakerx.evaluator.MagicCommandAutocompletePatternsMock;
 import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
 import com.twosigma.beakerx.kernel.EvaluatorParameters;
 import com.twosigma.beakerx.kernel.KernelManager;
+import com.twosigma.beakerx.kernel.PathToJar;
 import com.twosigma.beakerx.kotlin.kernel.KotlinKernelMock;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -33,10 +34,12 @@ import java.util.List;
 import java.util.Map;
 
 import static com.twosigma.beakerx.DefaultJVMVariables.IMPORTS;
+import static com.twosigma.beakerx.KernelExecutionTest.DEMO_JAR;
 import static com.twosigma.beakerx.evaluator.EvaluatorTest.KERNEL_PARAMETERS;
 import static com.twosigma.beakerx.evaluator.EvaluatorTest.getTestTempFolderFactory;
 import static com.twosigma.beakerx.evaluator.TestBeakerCellExecutor.cellExecutor;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class KotlinEvaluatorTest {
@@ -140,4 +143,20 @@ public class KotlinEvaluatorTest {
     assertThat((Double) evaluate.result()).isEqualTo(18.4);
   }
 
+  @Test
+  public void evaluateClassFromAddedJar() throws Exception {
+    //given
+    ClassLoader classLoader = evaluator.getClassLoader();
+    evaluator.addJarsToClasspath(singletonList(new PathToJar(DEMO_JAR)));
+    String code = "" +
+            "import com.example.Demo\n" +
+            "Demo().getObjectTest()";
+    SimpleEvaluationObject seo = KernelTest.createSeo(code);
+    //when
+    TryResult evaluate = evaluator.evaluate(seo, code);
+    //then
+    assertThat(evaluate.isError()).isFalse();
+    assertThat(evaluator.getClassLoader()).isEqualTo(classLoader);
+  }
+
 }
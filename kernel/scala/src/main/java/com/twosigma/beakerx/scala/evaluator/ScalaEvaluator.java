@@ -35,8 +35,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class ScalaEvaluator extends BaseEvaluator {
 
@@ -45,6 +48,14 @@ public class ScalaEvaluator extends BaseEvaluator {
   private BeakerXUrlClassLoader classLoader;
   private ScalaEvaluatorGlue shell;
   private ScalaAutocomplete scalaAutocomplete;
+  private final ExecutorService standbyExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "scala-standby");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private Future<Standby> standby;
+  private boolean reloadPending;
+  private int shellGeneration;
 
   public ScalaEvaluator(String id,
                         String sId,
@@ -77,19 +88,30 @@ public class ScalaEvaluator extends BaseEvaluator {
     addImportToShell(this.shell, anImport);
   }
 
+  /**
+   * The shell is swapped on its next use, so several %classpath magics in one cell reload once.
+   * The new shell starts building in the background right away.
+   */
   @Override
-  protected void doReloadEvaluator() {
-    this.shell = createNewEvaluator(shell);
-    this.scalaAutocomplete = new ScalaAutocomplete(shell, autocompletePatterns);
+  protected synchronized void doReloadEvaluator() {
+    this.reloadPending = true;
+    if (standby == null) {
+      prepareStandby();
+    }
   }
 
   @Override
-  protected void doResetEnvironment() {
+  protected synchronized void doResetEnvironment() {
+    this.reloadPending = false;
     this.classLoader = newClassLoader();
     this.shell = createNewEvaluator();
     this.scalaAutocomplete = new ScalaAutocomplete(shell, autocompletePatterns);
     executorService.shutdown();
     executorService = Executors.newSingleThreadExecutor();
+    if (standby != null) {
+      standby.cancel(false);
+      standby = null;
+    }
   }
 
   @Override
@@ -97,6 +119,7 @@ public class ScalaEvaluator extends BaseEvaluator {
     super.exit();
     killAllThreads();
     executorService.shutdown();
+    standbyExecutor.shutdownNow();
   }
 
   @Override
@@ -104,13 +127,86 @@ public class ScalaEvaluator extends BaseEvaluator {
     return this.classLoader;
   }
 
-  ScalaEvaluatorGlue getShell() {
+  /**
+   * Each shell writes its classes to its own directory, this is the one of the shell in use.
+   */
+  @Override
+  public synchronized String getOutDir() {
+    return shell != null ? shell.replClassdir() : super.getOutDir();
+  }
+
+  /**
+   * Called on the thread which runs the code, so it gets the class loader of the shell in use also after a swap.
+   */
+  synchronized ScalaEvaluatorGlue getShell() {
+    reloadIfPending();
+    shell.interpreter().setContextClassLoader();
     return shell;
   }
 
   @Override
   public AutocompleteResult autocomplete(String code, int caretPosition) {
-    return this.scalaAutocomplete.find(code, caretPosition);
+    ScalaAutocomplete autocomplete;
+    synchronized (this) {
+      reloadIfPending();
+      autocomplete = this.scalaAutocomplete;
+    }
+    return autocomplete.find(code, caretPosition);
+  }
+
+  private void reloadIfPending() {
+    if (reloadPending) {
+      reloadPending = false;
+      ScalaEvaluatorGlue newShell = takeStandby();
+      setLineId(newShell, shell.interpreter().lastRequest().lineRep().lineId());
+      this.shell = newShell;
+      this.scalaAutocomplete = new ScalaAutocomplete(shell, autocompletePatterns);
+    }
+  }
+
+  /**
+   * Builds the next interpreter in the background with the current class loader, classpath and imports.
+   * It compiles to its own directory, so it does not overwrite the classes of the shell in use.
+   */
+  private void prepareStandby() {
+    BeakerXUrlClassLoader loader = this.classLoader;
+    List<PathToJar> classpath = new ArrayList<>(getClasspath().getPaths());
+    List<ImportPath> imports = new ArrayList<>(getImports().getImportPaths());
+    String outDir = newOutDir();
+    standby = standbyExecutor.submit(() -> new Standby(loader, classpath, imports, createNewEvaluator(loader, classpath, imports, outDir)));
+  }
+
+  /**
+   * Returns the standby interpreter, extended with the jars and imports added after it was prepared,
+   * or a new one when the standby does not fit the current state.
+   */
+  private ScalaEvaluatorGlue takeStandby() {
+    Standby candidate = null;
+    try {
+      if (standby != null) {
+        candidate = standby.get();
+      }
+    } catch (Exception e) {
+      logger.warn("standby interpreter is not available", e);
+    }
+    standby = null;
+    List<PathToJar> classpath = getClasspath().getPaths();
+    List<ImportPath> imports = getImports().getImportPaths();
+    if (candidate == null || candidate.classLoader != classLoader
+            || !classpath.containsAll(candidate.classpath) || !imports.containsAll(candidate.imports)) {
+      return createNewEvaluator(classLoader, classpath, imports, newOutDir());
+    }
+    for (PathToJar jar : classpath) {
+      if (!candidate.classpath.contains(jar)) {
+        candidate.shell.addUrlsToClassPath(jar.getUrl());
+      }
+    }
+    for (ImportPath anImport : imports) {
+      if (!candidate.imports.contains(anImport)) {
+        addImportToShell(candidate.shell, anImport);
+      }
+    }
+    return candidate.shell;
   }
 
   private String adjustImport(String imp) {
@@ -128,12 +224,6 @@ public class ScalaEvaluator extends BaseEvaluator {
     return imp;
   }
 
-  private ScalaEvaluatorGlue createNewEvaluator(ScalaEvaluatorGlue shell) {
-    ScalaEvaluatorGlue newEvaluator = createNewEvaluator();
-    setLineId(newEvaluator, shell.interpreter().lastRequest().lineRep().lineId());
-    return newEvaluator;
-  }
-
   private void setLineId(ScalaEvaluatorGlue newEvaluator, int lines) {
     for (int i = newEvaluator.interpreter().lastRequest().lineRep().lineId(); i < lines; i++) {
       newEvaluator.evaluate2("\"\"");
@@ -141,12 +231,14 @@ public class ScalaEvaluator extends BaseEvaluator {
   }
 
   private ScalaEvaluatorGlue createNewEvaluator() {
+    return createNewEvaluator(this.classLoader, getClasspath().getPaths(), getImports().getImportPaths(), super.getOutDir());
+  }
+
+  private ScalaEvaluatorGlue createNewEvaluator(BeakerXUrlClassLoader loader, List<PathToJar> classpath, List<ImportPath> imports, String outDir) {
     logger.debug("creating new evaluator");
-    String loader_cp = createLoaderCp();
-    ScalaEvaluatorGlue shell = new ScalaEvaluatorGlue(this.classLoader, loader_cp, getOutDir());
-    if (!getImports().isEmpty()) {
-      addImportsToShell(shell, getImports().getImportPaths());
-    }
+    String loader_cp = createLoaderCp(classpath);
+    ScalaEvaluatorGlue shell = new ScalaEvaluatorGlue(loader, loader_cp, outDir);
+    addImportsToShell(shell, imports);
     logger.debug("creating beaker object");
     String r = shell.evaluate2(this.beakerxObjectFactory.create());
     if (r != null && !r.isEmpty()) {
@@ -155,6 +247,12 @@ public class ScalaEvaluator extends BaseEvaluator {
     return shell;
   }
 
+  private String newOutDir() {
+    File outDir = new File(super.getOutDir() + "-" + (++shellGeneration));
+    outDir.mkdirs();
+    return outDir.getPath();
+  }
+
   private void addImportsToShell(ScalaEvaluatorGlue shell, List<ImportPath> importsPaths) {
     if (!importsPaths.isEmpty()) {
       String[] imp = importsPaths.stream().map(importPath -> adjustImport(importPath.asString())).toArray(String[]::new);
@@ -186,12 +284,26 @@ public class ScalaEvaluator extends BaseEvaluator {
     return cl;
   }
 
-  private String createLoaderCp() {
+  private String createLoaderCp(List<PathToJar> classpath) {
     String loader_cp = "";
-    for (int i = 0; i < getClasspath().size(); i++) {
-      loader_cp += getClasspath().get(i);
+    for (PathToJar pathToJar : classpath) {
+      loader_cp += pathToJar.getPath();
       loader_cp += File.pathSeparatorChar;
     }
     return loader_cp + File.pathSeparatorChar + System.getProperty("java.class.path");
   }
+
+  private static class Standby {
+    private final BeakerXUrlClassLoader classLoader;
+    private final List<PathToJar> classpath;
+    private final List<ImportPath> imports;
+    private final ScalaEvaluatorGlue shell;
+
+    Standby(BeakerXUrlClassLoader classLoader, List<PathToJar> classpath, List<ImportPath> imports, ScalaEvaluatorGlue shell) {
+      this.classLoader = classLoader;
+      this.classpath = classpath;
+      this.imports = imports;
+      this.shell = shell;
+    }
+  }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.twosigma.beakerx.DisplayerDataMapper;
 import com.twosigma.beakerx.NamespaceClient;
 import com.twosigma.beakerx.evaluator.ClasspathScannerImpl;
 import com.twosigma.beakerx.evaluator.Evaluator;
+import com.twosigma.beakerx.evaluator.LazyEvaluator;
 import com.twosigma.beakerx.evaluator.TempFolderFactoryImpl;
 import com.twosigma.beakerx.handler.KernelHandler;
 import com.twosigma.beakerx.jvm.threads.BeakerCellExecutor;
@@ -78,16 +79,16 @@ public class Scala extends Kernel {
       KernelSocketsFactoryImpl kernelSocketsFactory = new KernelSocketsFactoryImpl(configurationFile);
       NamespaceClient namespaceClient = NamespaceClient.create(id, configurationFile, new ScalaBeakerXJsonSerializer(), commRepository);
       MagicCommandConfiguration magicConfiguration = new MagicCommandConfigurationImpl();
-      ScalaEvaluator se = new ScalaEvaluator(
-              id,
-              id,
-              new BeakerCellExecutor("scala"),
-              new BeakerxObjectFactoryImpl(),
-              new TempFolderFactoryImpl(),
-              getKernelParameters(),
-              namespaceClient,
-              magicConfiguration.patterns(),
-              new ClasspathScannerImpl());
+      Evaluator se = new LazyEvaluator(() -> new ScalaEvaluator(
+                id,
+                id,
+                new BeakerCellExecutor("scala"),
+                new BeakerxObjectFactoryImpl(),
+                new TempFolderFactoryImpl(),
+                getKernelParameters(),
+                namespaceClient,
+                magicConfiguration.patterns(),
+                new ClasspathScannerImpl()));
       return new Scala(id,
               se,
               new Configuration(
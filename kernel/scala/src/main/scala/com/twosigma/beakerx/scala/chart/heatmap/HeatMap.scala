@@ -17,6 +17,7 @@
 package com.twosigma.beakerx.scala.chart.heatmap
 
 import com.twosigma.beakerx.chart.GradientColor
+import com.twosigma.beakerx.chart.heatmap.HeatMapAggregation
 import com.twosigma.beakerx.scala.JavaAdapter._
 import com.twosigma.beakerx.scala.chart.AbstractChartProperties
 
@@ -31,6 +32,9 @@ trait HeatMapProperties extends AbstractChartProperties {
   def color: GradientColor = getColor
   def color_=(gc: GradientColor): Unit = setColor(gc)
 
+  def aggregation: HeatMapAggregation = getAggregation
+  def aggregation_=(aggregation: HeatMapAggregation): Unit = setAggregation(aggregation)
+
   def data: Array[Array[Number]] = Option(getData).getOrElse(Array.empty)
   def data_=[T : NumberView : ClassTag, Inner[_]: HasSeq[T]#Conversion](data: Seq[Inner[T]]): Unit = {
     val innerNumberArray = data.map(_.toSeq.toNumbers.toArray)
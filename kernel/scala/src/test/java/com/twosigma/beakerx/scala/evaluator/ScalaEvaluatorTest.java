@@ -137,6 +137,28 @@ public class ScalaEvaluatorTest {
             .isEqualTo(scalaEvaluator.getShell().interpreter().lastRequest().lineRep().lineId());
   }
 
+  @Test
+  public void newShellCompilesToItsOwnOutDir() {
+    //given
+    ScalaEvaluatorGlue shell = scalaEvaluator.getShell();
+    //when
+    scalaEvaluator.addJarsToClasspath(singletonList(new PathToJar(DEMO_JAR)));
+    //then
+    assertThat(scalaEvaluator.getShell().replClassdir()).isNotEqualTo(shell.replClassdir());
+    assertThat(scalaEvaluator.getOutDir()).isEqualTo(scalaEvaluator.getShell().replClassdir());
+  }
+
+  @Test
+  public void keepShellWhenJarIsAlreadyOnClasspath() {
+    //given
+    scalaEvaluator.addJarsToClasspath(singletonList(new PathToJar(DEMO_JAR)));
+    ScalaEvaluatorGlue shell = scalaEvaluator.getShell();
+    //when
+    scalaEvaluator.addJarsToClasspath(singletonList(new PathToJar(DEMO_JAR)));
+    //then
+    assertThat(scalaEvaluator.getShell()).isEqualTo(shell);
+  }
+
   @Test
   public void allowOnlyComment() {
     //given
@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.widget;
+
+import com.twosigma.beakerx.jvm.serialization.BasicObjectSerializer;
+import com.twosigma.beakerx.table.TableDisplay;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Table over a row iterator which is read one page at a time, the next page is appended to the table
+ * only when the user asks for more rows. Rows stay value lists under one column header, no map per row is built.
+ */
+public class PagedTableDisplay {
+
+  public static final String LOAD_MORE = "Load %s more rows";
+
+  private final Iterator<List<?>> rows;
+  private final int pageSize;
+  private final TableDisplay tableDisplay;
+  private final Button moreButton;
+
+  public PagedTableDisplay(List<String> columns, Iterator<List<?>> rows, int pageSize) {
+    this.rows = rows;
+    this.pageSize = pageSize;
+    List<List<?>> firstPage = nextPage();
+    this.tableDisplay = new TableDisplay(firstPage, columns, classes(columns, firstPage));
+    this.moreButton = new Button();
+    this.moreButton.setDescription(String.format(LOAD_MORE, pageSize));
+    this.moreButton.registerOnClick((content, message) -> loadNextPage());
+    hideButtonWhenDone();
+  }
+
+  public List<Widget> getWidgets() {
+    return asList(tableDisplay, moreButton);
+  }
+
+  public TableDisplay getTableDisplay() {
+    return tableDisplay;
+  }
+
+  public void loadNextPage() {
+    List<List<?>> page = nextPage();
+    if (!page.isEmpty()) {
+      tableDisplay.appendRows(page);
+    }
+    hideButtonWhenDone();
+  }
+
+  private List<List<?>> nextPage() {
+    List<List<?>> page = new ArrayList<>(pageSize);
+    while (page.size() < pageSize && rows.hasNext()) {
+      page.add(rows.next());
+    }
+    return page;
+  }
+
+  private void hideButtonWhenDone() {
+    if (!rows.hasNext()) {
+      moreButton.getLayout().setDisplayNone();
+    }
+  }
+
+  private static List<String> classes(List<String> columns, List<List<?>> page) {
+    BasicObjectSerializer serializer = new BasicObjectSerializer();
+    List<String> classes = new ArrayList<>(columns.size());
+    for (int column = 0; column < columns.size(); column++) {
+      String type = "";
+      for (List<?> row : page) {
+        Object value = row.get(column);
+        if (value != null) {
+          type = serializer.convertType(value.getClass().getName());
+          break;
+        }
+      }
+      classes.add(type.isEmpty() ? "string" : type);
+    }
+    return classes;
+  }
+}
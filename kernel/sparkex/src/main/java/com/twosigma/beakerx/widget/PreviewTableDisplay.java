@@ -19,6 +19,7 @@ import com.twosigma.beakerx.message.Message;
 import com.twosigma.beakerx.table.TableDisplay;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +32,8 @@ public class PreviewTableDisplay {
   private VBox panel;
   private Collection<Map<String, Object>> preview;
   private Rows allRows;
+  private List<String> columns;
+  private RowIterator rowIterator;
   private List<Widget> previewContent;
   private List<Widget> rowsContent;
 
@@ -45,10 +48,25 @@ public class PreviewTableDisplay {
     this(previewRows, allRows, new Button());
   }
 
+  /**
+   * Rows are streamed from the iterator in pages of ROWS, see {@link PagedTableDisplay}.
+   */
+  public PreviewTableDisplay(Collection<Map<String, Object>> previewRows, List<String> columns, RowIterator rowIterator, Button button) {
+    this(previewRows, (Rows) null, button);
+    this.columns = columns;
+    this.rowIterator = rowIterator;
+  }
+
+  public PreviewTableDisplay(Collection<Map<String, Object>> previewRows, List<String> columns, RowIterator rowIterator) {
+    this(previewRows, columns, rowIterator, new Button());
+  }
+
   private Button configureShowRowsButton(Button button) {
     button.setDescription(PREVIEW + " " + ROWS + " Rows");
     button.registerOnClick((content, message) -> {
-      if (this.rowsContent == null) {
+      if (this.rowsContent == null && this.rowIterator != null) {
+        this.rowsContent = new PagedTableDisplay(columns, rowIterator.get(), ROWS).getWidgets();
+      } else if (this.rowsContent == null) {
         TableDisplay tableDisplay = new TableDisplay(allRows.get(ROWS + 1));
         tableDisplay.ROWS_LIMIT = ROWS;
         tableDisplay.ROW_LIMIT_TO_INDEX = ROWS;
@@ -74,4 +92,8 @@ public class PreviewTableDisplay {
   public interface Rows {
     Map<String, Object>[] get(int rows);
   }
+
+  public interface RowIterator {
+    Iterator<List<?>> get();
+  }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.widget;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the latest state of every running stage at most updatesPerSecond times per second,
+ * instead of one comm message per Spark task. Zero updates per second sends every change.
+ */
+public class SparkProgressAggregator {
+
+  public static final int UPDATES_PER_SECOND_DEFAULT = 10;
+
+  private final static Logger logger = LoggerFactory.getLogger(SparkProgressAggregator.class.getName());
+
+  private final Set<SparkStateProgress> progresses = ConcurrentHashMap.newKeySet();
+  private final ScheduledExecutorService scheduler;
+
+  public SparkProgressAggregator(int updatesPerSecond) {
+    if (updatesPerSecond > 0) {
+      long period = Math.max(1, 1000 / updatesPerSecond);
+      this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "spark-progress");
+        thread.setDaemon(true);
+        return thread;
+      });
+      this.scheduler.scheduleAtFixedRate(this::flush, period, period, TimeUnit.MILLISECONDS);
+    } else {
+      this.scheduler = null;
+    }
+  }
+
+  public void add(SparkStateProgress progress) {
+    progresses.add(progress);
+  }
+
+  public void changed(SparkStateProgress progress) {
+    if (scheduler == null) {
+      progress.flush();
+    }
+  }
+
+  public void remove(SparkStateProgress progress) {
+    progresses.remove(progress);
+    progress.flush();
+  }
+
+  public void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+    flush();
+  }
+
+  private void flush() {
+    for (SparkStateProgress progress : progresses) {
+      try {
+        progress.flush();
+      } catch (Exception e) {
+        logger.warn("Could not send spark progress", e);
+      }
+    }
+  }
+}
@@ -17,16 +17,19 @@ package com.twosigma.beakerx.widget;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class SparkStateProgress extends HBox {
 
   public static final String VIEW_NAME_VALUE = "SparkStateProgressView";
   public static final String MODEL_NAME_VALUE = "SparkStateProgressModel";
-  private int active = 0;
-  private int done = 0;
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicInteger done = new AtomicInteger();
+  private final AtomicInteger cancelled = new AtomicInteger();
+  private final AtomicBoolean changed = new AtomicBoolean();
   private int numberOfTasks = 0;
-  private int cancelled = 0;
   private int jobId;
   private int stageId;
   private String jobLink;
@@ -71,49 +74,60 @@ public class SparkStateProgress extends HBox {
   }
 
   public int getActive() {
-    return active;
+    return active.get();
   }
 
   public int getDone() {
-    return done;
+    return done.get();
   }
 
   public int getWaiting() {
-    return getNumberOfTasks() - (done + active);
+    return getNumberOfTasks() - (getDone() + getActive());
   }
 
-  public synchronized void addActive() {
-    this.active += 1;
-    sendState();
+  /**
+   * Task counters only mark the progress as changed, {@link #flush()} sends the latest state.
+   */
+  public void addActive() {
+    this.active.incrementAndGet();
+    this.changed.set(true);
   }
 
-  public synchronized void addDone() {
-    this.done += 1;
-    this.active -= 1;
-    sendState();
+  public void addDone() {
+    this.done.incrementAndGet();
+    this.active.decrementAndGet();
+    this.changed.set(true);
   }
-  public synchronized void addCancelled() {
-    this.cancelled += 1;
-    this.active -= 1;
-    sendState();
+
+  public void addCancelled() {
+    this.cancelled.incrementAndGet();
+    this.active.decrementAndGet();
+    this.changed.set(true);
   }
 
   public synchronized void init() {
-    this.done = 0;
-    this.active = 0;
+    this.done.set(0);
+    this.active.set(0);
+    this.changed.set(false);
     sendState();
   }
 
+  public void flush() {
+    if (changed.getAndSet(false)) {
+      sendState();
+    }
+  }
+
   private synchronized void sendState() {
     HashMap<Object, Object> state = new HashMap<>();
     state.put("jobId", this.jobId);
     state.put("stageId", this.stageId);
     state.put("stageLink", this.stageLink);
     state.put("jobLink", this.jobLink);
-    state.put("done", this.done);
-    state.put("active", this.active);
+    state.put("done", this.done.get());
+    state.put("active", this.active.get());
     state.put("numberOfTasks", this.numberOfTasks);
-    state.put("cancelled", this.cancelled);
+    state.put("cancelled", this.cancelled.get());
     sendUpdate("state", state);
   }
 
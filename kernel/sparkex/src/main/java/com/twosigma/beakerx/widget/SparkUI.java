@@ -47,6 +47,7 @@ public class SparkUI extends VBox implements SparkUIApi {
   public static final Map<String, String> SPARK_ADVANCED_OPTIONS_DEFAULT = new HashMap<>();
   public static final String PUT_SPARK_JOBS_IN_THE_BACKGROUND = "putSparkJobsInTheBackground";
   public static final String CANCELLED_SPARK_JOBS = "cancelledSparkJobs";
+  public static final String PROGRESS_UPDATES_PER_SECOND = "spark.beakerx.progressUpdatesPerSecond";
 
 
   private final SparkUIForm sparkUIForm;
@@ -57,6 +58,7 @@ public class SparkUI extends VBox implements SparkUIApi {
   private SparkEngineWithUI sparkEngine;
   private SparkUiDefaults sparkUiDefaults;
   private SingleSparkSession singleSparkSession;
+  private SparkProgressAggregator progressAggregator = new SparkProgressAggregator(0);
 
   SparkUI(SparkEngineWithUI sparkEngine, SparkUiDefaults sparkUiDefaults, SingleSparkSession singleSparkSession) {
     super(new ArrayList<>());
@@ -138,6 +140,9 @@ public class SparkUI extends VBox implements SparkUIApi {
   }
 
   private void applicationStart() {
+    int updatesPerSecond = getSparkSession().sparkContext().getConf()
+            .getInt(PROGRESS_UPDATES_PER_SECOND, SparkProgressAggregator.UPDATES_PER_SECOND_DEFAULT);
+    this.progressAggregator = new SparkProgressAggregator(updatesPerSecond);
     this.statusPanel = new SparkUIStatus(() -> getSparkSession().sparkContext().stop());
     this.sparkUIForm.setDomClasses(new ArrayList<>(asList("bx-disabled")));
     add(0, this.statusPanel);
@@ -151,6 +156,7 @@ public class SparkUI extends VBox implements SparkUIApi {
     this.sparkUIForm.setDomClasses(new ArrayList<>());
     this.sparkUIForm.setAllToEnabled();
     removeStatusPanel();
+    progressAggregator.stop();
     singleSparkSession.inActive();
   }
 
@@ -172,6 +178,7 @@ public class SparkUI extends VBox implements SparkUIApi {
     SparkStateGroupPanel sparkProgressDecorator = new SparkStateGroupPanel(intProgress, asList(xButton, bkgButton));
     jobPanel.add(sparkProgressDecorator);
     progressBarMap.put(stageId, sparkProgressDecorator);
+    progressAggregator.add(intProgress);
   }
 
   private Widget createBkgJobsButton(int stageId) {
@@ -210,22 +217,26 @@ public class SparkUI extends VBox implements SparkUIApi {
 
   public void endStage(int stageId) {
     SparkStateGroupPanel decorator = progressBarMap.get(stageId);
+    progressAggregator.remove(decorator.getSparkStateProgress());
     decorator.getSparkStateProgress().hide();
   }
 
   public void taskStart(int stageId, long taskId) {
-    SparkStateGroupPanel decorator = progressBarMap.get(stageId);
-    decorator.getSparkStateProgress().addActive();
+    SparkStateProgress progress = progressBarMap.get(stageId).getSparkStateProgress();
+    progress.addActive();
+    progressAggregator.changed(progress);
   }
 
   public void taskEnd(int stageId, long taskId) {
-    SparkStateGroupPanel decorator = progressBarMap.get(stageId);
-    decorator.getSparkStateProgress().addDone();
+    SparkStateProgress progress = progressBarMap.get(stageId).getSparkStateProgress();
+    progress.addDone();
+    progressAggregator.changed(progress);
   }
 
   public void taskCancelled(int stageId, long taskId) {
-    SparkStateGroupPanel decorator = progressBarMap.get(stageId);
-    decorator.getSparkStateProgress().addCancelled();
+    SparkStateProgress progress = progressBarMap.get(stageId).getSparkStateProgress();
+    progress.addCancelled();
+    progressAggregator.changed(progress);
   }
 
   private String stageLink(int stageId) {
@@ -19,12 +19,14 @@ import java.util
 import java.util.{HashMap, Map}
 
 import com.twosigma.beakerx.mimetype.MIMEContainer
-import com.twosigma.beakerx.widget.PreviewTableDisplay
-import com.twosigma.beakerx.widget.PreviewTableDisplay.Rows
+import com.twosigma.beakerx.widget.PreviewTableDisplay.RowIterator
+import com.twosigma.beakerx.widget.{PagedTableDisplay, PreviewTableDisplay, VBox}
 import jupyter.{Displayer, Displayers}
+import org.apache.spark.sql.Row
 
+import scala.collection.JavaConverters
+import scala.collection.JavaConverters._
 import scala.collection.immutable.ListMap
-import scala.collection.{JavaConverters, mutable}
 
 object SparkDisplayers {
 
@@ -43,8 +45,9 @@ object SparkDisplayers {
     val preview = com.twosigma.beakerx.scala.table.TableDisplay.fromSeqListMapToJavaCollection(Seq(list))
     val previewWidget = new PreviewTableDisplay(
       preview,
-      new Rows {
-        override def get(rows: Int): Array[util.Map[String, AnyRef]] = com.twosigma.beakerx.scala.table.TableDisplay.toJavaMap(takeRows(ds, rows))
+      columns(ds),
+      new RowIterator {
+        override def get(): util.Iterator[util.List[_]] = streamRows(ds)
       }
     )
     previewWidget.display()
@@ -52,28 +55,31 @@ object SparkDisplayers {
 
 
   def displayDataset(ds: org.apache.spark.sql.Dataset[_], rows: Int = 20): Unit = {
-    val t: com.twosigma.beakerx.table.TableDisplay = tableDisplay(ds, rows)
-    t.display()
+    new VBox(new PagedTableDisplay(columns(ds), streamRows(ds), rows).getWidgets).display()
   }
 
-  private def tableDisplay(ds: org.apache.spark.sql.Dataset[_], rows: Int) = {
-    import com.twosigma.beakerx.scala.table.TableDisplay
-    val maps = takeRows(ds, rows)
-    val t = TableDisplay.create(maps)
-    t
-  }
+  private def columns(ds: org.apache.spark.sql.Dataset[_]): util.List[String] = ds.columns.toList.asJava
+
+  /**
+   * Partitions are fetched to the driver one at a time, only as far as the pages read so far.
+   */
+  private def streamRows(ds: org.apache.spark.sql.Dataset[_]): util.Iterator[util.List[_]] = {
+    val rows = ds.toDF.toLocalIterator()
+    new util.Iterator[util.List[_]] {
+      override def hasNext: Boolean = rows.hasNext
 
-  private def takeRows(ds: org.apache.spark.sql.Dataset[_], rows: Int) = {
-    val columns = ds.columns
-    val rowVals = ds.toDF.take(rows)
-    val maps = rowVals map (row => toListMap(columns zip row.toSeq))
-    maps
+      override def next(): util.List[_] = toRow(rows.next())
+    }
   }
 
-  private def toListMap(tuples: Array[(String, Any)]): ListMap[String, Any] = {
-    var list: ListMap[String, Any] = ListMap()
-    tuples.foreach(x => list += x._1 -> convert(x._2))
-    list
+  private def toRow(row: Row): util.List[_] = {
+    val values = new util.ArrayList[Any](row.length)
+    var i = 0
+    while (i < row.length) {
+      values.add(convert(row.get(i)))
+      i += 1
+    }
+    values
   }
 
   private def toListFromTuples(tuples: Array[(String, String)]) = {
@@ -22,6 +22,7 @@ import com.twosigma.beakerx.handler.Handler;
 import com.twosigma.beakerx.inspect.InspectResult;
 import com.twosigma.beakerx.jvm.object.SimpleEvaluationObject;
 import com.twosigma.beakerx.kernel.AddImportStatus;
+import com.twosigma.beakerx.kernel.AsyncScheduler;
 import com.twosigma.beakerx.kernel.BeakerXJson;
 import com.twosigma.beakerx.kernel.Classpath;
 import com.twosigma.beakerx.kernel.EvaluatorParameters;
@@ -112,6 +113,11 @@ public class KernelFunctionalityEmptyMock implements KernelFunctionality {
 
   }
 
+  @Override
+  public AsyncScheduler getAsyncScheduler() {
+    return null;
+  }
+
   @Override
   public void killAllThreads() {
 
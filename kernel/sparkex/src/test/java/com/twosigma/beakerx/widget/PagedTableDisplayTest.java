@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.widget;
+
+import com.twosigma.beakerx.KernelTest;
+import com.twosigma.beakerx.kernel.KernelManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PagedTableDisplayTest {
+
+  private AtomicInteger rowsRead;
+
+  @Before
+  public void setUp() {
+    KernelManager.register(new KernelTest());
+    rowsRead = new AtomicInteger();
+  }
+
+  @After
+  public void tearDown() {
+    KernelManager.register(null);
+  }
+
+  @Test
+  public void shouldReadOnlyFirstPage() {
+    //when
+    PagedTableDisplay sut = new PagedTableDisplay(asList("id", "name"), rows(25), 10);
+    //then
+    assertThat(sut.getTableDisplay().getValues()).hasSize(10);
+    assertThat(sut.getTableDisplay().getTypes()).containsExactly("integer", "string");
+    assertThat(rowsRead.get()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldAppendPagesUntilRowsAreExhausted() {
+    //given
+    PagedTableDisplay sut = new PagedTableDisplay(asList("id", "name"), rows(25), 10);
+    //when
+    sut.loadNextPage();
+    sut.loadNextPage();
+    //then
+    assertThat(sut.getTableDisplay().getValues()).hasSize(25);
+    assertThat(sut.getTableDisplay().getValues().get(24)).isEqualTo(asList(24, "row24"));
+  }
+
+  private Iterator<List<?>> rows(int count) {
+    List<List<?>> rows = IntStream.range(0, count)
+            .mapToObj(i -> asList(i, "row" + i))
+            .collect(toList());
+    Iterator<List<?>> iterator = rows.iterator();
+    return new Iterator<List<?>>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public List<?> next() {
+        rowsRead.incrementAndGet();
+        return iterator.next();
+      }
+    };
+  }
+}
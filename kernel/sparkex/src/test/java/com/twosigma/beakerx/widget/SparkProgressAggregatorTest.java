@@ -0,0 +1,78 @@
+/*
+ *  Copyright 2018 TWO SIGMA OPEN SOURCE, LLC
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.twosigma.beakerx.widget;
+
+import com.twosigma.beakerx.KernelTest;
+import com.twosigma.beakerx.kernel.KernelManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SparkProgressAggregatorTest {
+
+  private KernelTest kernel;
+
+  @Before
+  public void setUp() throws Exception {
+    kernel = new KernelTest();
+    KernelManager.register(kernel);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    KernelManager.register(null);
+  }
+
+  @Test
+  public void shouldSendOneStateForManyTasksWhenStageEnds() {
+    //given
+    SparkProgressAggregator sut = new SparkProgressAggregator(1);
+    SparkStateProgress progress = new SparkStateProgress(1000, 1, 1, "jobLink", "stageLink");
+    sut.add(progress);
+    kernel.clearMessages();
+    //when
+    for (int i = 0; i < 1000; i++) {
+      progress.addActive();
+      sut.changed(progress);
+      progress.addDone();
+      sut.changed(progress);
+    }
+    sut.remove(progress);
+    sut.stop();
+    //then
+    assertThat(kernel.getPublishedMessages()).hasSize(1);
+    assertThat(progress.getDone()).isEqualTo(1000);
+    assertThat(progress.getActive()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldSendEveryChangeWhenUpdatesAreNotLimited() {
+    //given
+    SparkProgressAggregator sut = new SparkProgressAggregator(0);
+    SparkStateProgress progress = new SparkStateProgress(10, 1, 1, "jobLink", "stageLink");
+    sut.add(progress);
+    kernel.clearMessages();
+    //when
+    progress.addActive();
+    sut.changed(progress);
+    progress.addDone();
+    sut.changed(progress);
+    //then
+    assertThat(kernel.getPublishedMessages()).hasSize(2);
+  }
+}
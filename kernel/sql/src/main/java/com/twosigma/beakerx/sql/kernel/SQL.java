@@ -21,6 +21,7 @@ import com.twosigma.beakerx.DefaultJVMVariables;
 import com.twosigma.beakerx.NamespaceClient;
 import com.twosigma.beakerx.evaluator.ClasspathScannerImpl;
 import com.twosigma.beakerx.evaluator.Evaluator;
+import com.twosigma.beakerx.evaluator.LazyEvaluator;
 import com.twosigma.beakerx.handler.KernelHandler;
 import com.twosigma.beakerx.kernel.BeakerXJsonConfig;
 import com.twosigma.beakerx.kernel.Configuration;
@@ -86,7 +87,7 @@ public class SQL extends Kernel {
       EvaluatorParameters params = getKernelParameters(BeakerXSystemImpl.getINSTANCE());
       NamespaceClient beakerxClient = NamespaceClient.create(id, configurationFile, commRepository);
       MagicCommandConfiguration magicConfiguration = new MagicCommandConfigurationImpl();
-      SQLEvaluator evaluator = new SQLEvaluator(id, id, params, beakerxClient, magicConfiguration.patterns(),new ClasspathScannerImpl());
+      Evaluator evaluator = new LazyEvaluator(() -> new SQLEvaluator(id, id, params, beakerxClient, magicConfiguration.patterns(),new ClasspathScannerImpl()));
       return new SQL(id,
               evaluator,
               new Configuration(